@@ -0,0 +1,50 @@
+package com.github.alexisc183.jforconsol.benchmarks;
+
+import com.github.alexisc183.jforconsol.Arrays2D;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link Arrays2D#is2DArray(Object[][])}.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @since JForconsol 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class Arrays2DBenchmark {
+	@Param({ "10", "10000" })
+	private int rows;
+	
+	private Object[][] array;
+	
+	@Setup
+	public void setUp() {
+		array = new Object[rows][8];
+	}
+	
+	/**
+	 * Checks a 2D array, which has to be traversed completely.
+	 * 
+	 * @return <code>true</code>
+	 */
+	@Benchmark
+	public boolean is2DArray() {
+		return Arrays2D.is2DArray(array);
+	}
+}
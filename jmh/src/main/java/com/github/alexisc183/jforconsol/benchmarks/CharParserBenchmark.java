@@ -0,0 +1,51 @@
+package com.github.alexisc183.jforconsol.benchmarks;
+
+import com.github.alexisc183.jforconsol.CharParser;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link CharParser#parse(String)}.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @since JForconsol 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class CharParserBenchmark {
+	private final CharParser parser = new CharParser();
+	private String input = "x";
+	
+	/**
+	 * Parses a single character through the <code>Parser</code> interface.
+	 * 
+	 * @return the parsed character
+	 */
+	@Benchmark
+	public Character parse() {
+		return parser.parse(input);
+	}
+	
+	/**
+	 * Parses a single character without boxing it.
+	 * 
+	 * @return the parsed character
+	 */
+	@Benchmark
+	public char parseChar() {
+		return CharParser.parseChar(input);
+	}
+}
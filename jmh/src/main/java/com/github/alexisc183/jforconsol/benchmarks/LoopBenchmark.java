@@ -0,0 +1,64 @@
+package com.github.alexisc183.jforconsol.benchmarks;
+
+import com.github.alexisc183.jforconsol.sugar.Loop;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of {@link Loop#until} and {@link Loop#untilPure}.
+ * <p>
+ * Every iteration hands its counter to a blackhole, so the JIT compiler cannot fold the loops into a constant. The counter of <code>untilPure</code> is an <code>Integer</code>, so its score also includes boxing each value.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @since JForconsol 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class LoopBenchmark {
+	@Param({ "1000" })
+	private int iterations;
+	
+	/**
+	 * Mutates a counter until it reaches the number of iterations.
+	 * 
+	 * @param blackhole the blackhole that consumes each value of the counter
+	 * @return the final counter
+	 */
+	@Benchmark
+	public int until(Blackhole blackhole) {
+		final int LIMIT = iterations;
+		
+		return Loop.until(new int[1], counter -> counter[0] >= LIMIT, counter -> blackhole.consume(counter[0]++))[0];
+	}
+	
+	/**
+	 * Rebinds a counter until it reaches the number of iterations.
+	 * 
+	 * @param blackhole the blackhole that consumes each value of the counter
+	 * @return the final counter
+	 */
+	@Benchmark
+	public int untilPure(Blackhole blackhole) {
+		final int LIMIT = iterations;
+		
+		return Loop.untilPure(0, counter -> counter >= LIMIT, counter -> {
+			blackhole.consume(counter.intValue());
+			return counter + 1;
+		});
+	}
+}
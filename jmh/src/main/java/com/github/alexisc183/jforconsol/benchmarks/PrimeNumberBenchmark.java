@@ -0,0 +1,77 @@
+package com.github.alexisc183.jforconsol.benchmarks;
+
+import com.github.alexisc183.jforconsol.PrimeNumber;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of {@link PrimeNumber#next()} and of <code>reset</code> cycles.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @since JForconsol 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class PrimeNumberBenchmark {
+	// The instance is reset before its primes overflow an int, which keeps next() in the range of the first prime numbers
+	private static final int PRIMES_PER_RESET = 1 << 20;
+	
+	private final PrimeNumber primes = new PrimeNumber();
+	private int advanced;
+	
+	/**
+	 * The number of prime numbers obtained after each <code>reset</code>.
+	 */
+	@State(Scope.Thread)
+	public static class Cycle {
+		@Param({ "1000", "100000" })
+		private int count;
+		
+		private final PrimeNumber primes = new PrimeNumber();
+	}
+	
+	/**
+	 * Gets the next prime number of an instance that keeps advancing.
+	 * 
+	 * @return the next prime number
+	 */
+	@Benchmark
+	public int next() {
+		if (++advanced == PRIMES_PER_RESET) {
+			advanced = 0;
+			primes.reset();
+		}
+		
+		return primes.next();
+	}
+	
+	/**
+	 * Resets an instance and gets its first prime numbers.
+	 * 
+	 * @param cycle the instance and its number of prime numbers
+	 * @param blackhole the consumer of the prime numbers
+	 */
+	@Benchmark
+	public void resetCycle(Cycle cycle, Blackhole blackhole) {
+		cycle.primes.reset();
+		
+		for (int i = 0; i < cycle.count; i++) {
+			blackhole.consume(cycle.primes.next());
+		}
+	}
+}
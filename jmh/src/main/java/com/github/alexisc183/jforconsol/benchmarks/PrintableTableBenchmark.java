@@ -0,0 +1,65 @@
+package com.github.alexisc183.jforconsol.benchmarks;
+
+import com.github.alexisc183.jforconsol.PrintableTable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link PrintableTable#print(Object[][], Appendable)} across table sizes.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @since JForconsol 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class PrintableTableBenchmark {
+	private static final int COLUMNS = 6;
+	
+	@Param({ "10", "1000", "100000" })
+	private int rows;
+	
+	private final PrintableTable table = new PrintableTable();
+	private final StringBuilder out = new StringBuilder();
+	private Object[][] array;
+	
+	@Setup
+	public void setUp() {
+		array = new Object[rows][COLUMNS];
+		
+		for (int row = 0; row < rows; row++) {
+			array[row][0] = row;
+			array[row][1] = "name " + row;
+			array[row][2] = row * 0.5;
+			array[row][3] = (long)row * row;
+			array[row][4] = row % 2 == 0;
+			array[row][5] = (char)('a' + row % 26);
+		}
+	}
+	
+	/**
+	 * Prints the table into a reused string builder.
+	 * 
+	 * @return the length of the printed table
+	 */
+	@Benchmark
+	public int print() {
+		out.setLength(0);
+		table.print(array, out);
+		return out.length();
+	}
+}
@@ -0,0 +1,68 @@
+package com.github.alexisc183.jforconsol.benchmarks;
+
+import com.github.alexisc183.jforconsol.Streams;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link Streams#forEachWithThrown(java.util.stream.Stream, java.util.function.Function)} over sequential and parallel streams, in which no action returns an exception.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @since JForconsol 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class StreamsBenchmark {
+	@Param({ "100000" })
+	private int size;
+	
+	/**
+	 * Iterates over a sequential stream.
+	 * 
+	 * @return an empty optional
+	 */
+	@Benchmark
+	public Optional<Exception> sequential() {
+		return Streams.forEachWithThrown(IntStream.range(0, size).boxed(), StreamsBenchmark::check);
+	}
+	
+	/**
+	 * Iterates over a parallel stream.
+	 * 
+	 * @return an empty optional
+	 */
+	@Benchmark
+	public Optional<Exception> parallel() {
+		return Streams.forEachWithThrown(IntStream.range(0, size).boxed().parallel(), StreamsBenchmark::check);
+	}
+	
+	/**
+	 * Iterates over a stream of <code>int</code> values without boxing them.
+	 * 
+	 * @return an empty optional
+	 */
+	@Benchmark
+	public Optional<Exception> primitive() {
+		return Streams.forEachWithThrown(IntStream.range(0, size), StreamsBenchmark::check);
+	}
+	
+	private static Exception check(int value) {
+		return value < 0 ? new IllegalArgumentException() : null;
+	}
+}
@@ -1,15 +1,16 @@
 package com.github.alexisc183.jforconsol;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * A type capable of parsing the string representation of a character.
  * 
  * @author AlexisC183
- * @version 1, 2025-05-30
+ * @version 2, 2026-10-18
  * @since JForconsol 1.0.0
  */
-public class CharParser implements Parser<Character> {
+public class CharParser implements TryParser<Character> {
 	/**
 	 * Creates a character parser.
 	 */
@@ -17,6 +18,41 @@ public class CharParser implements Parser<Character> {
 		
 	}
 	
+	/**
+	 * Parses the given character sequence to convert it to <code>char</code>, without boxing the result.
+	 * 
+	 * @param chars the representation of a character
+	 * @return a character from the converted character sequence
+	 * @throws FormatException if the provided character sequence is not of length 1
+	 * @throws NullPointerException if the provided character sequence is <code>null</code>
+	 * @since JForconsol 1.1.0
+	 */
+	public static char parseChar(CharSequence chars) {
+		return parseChar(chars, 0, chars.length());
+	}
+	
+	/**
+	 * Parses a region of the given character sequence to convert it to <code>char</code>, without boxing the result.
+	 * 
+	 * @param chars a character sequence that contains the representation of a character
+	 * @param from the index of the first character of the region
+	 * @param to the index after the last character of the region
+	 * @return a character from the converted region
+	 * @throws FormatException if the region is not of length 1
+	 * @throws IndexOutOfBoundsException if the region is out of the bounds of the character sequence
+	 * @throws NullPointerException if the provided character sequence is <code>null</code>
+	 * @since JForconsol 1.1.0
+	 */
+	public static char parseChar(CharSequence chars, int from, int to) {
+		Objects.checkFromToIndex(from, to, chars.length());
+		
+		if (to - from != 1) {
+			throw new FormatException("Passed string must be of length 1");
+		}
+		
+		return chars.charAt(from);
+	}
+	
 	/**
 	 * Parses the given string to convert it to character.
 	 * 
@@ -35,4 +71,18 @@ public class CharParser implements Parser<Character> {
 		
 		return charString.charAt(0);
 	}
+	
+	/**
+	 * Parses the given string to convert it to character, if the string is of length 1.
+	 * 
+	 * @param charString the string representation of a character
+	 * @return an <code>Optional</code> with a character from the converted string, or an empty <code>Optional</code> if the provided string is not of length 1
+	 * @throws NullPointerException if the provided string is <code>null</code>
+	 * @since JForconsol 1.1.0
+	 */
+	@Override
+	public Optional<Character> tryParse(String charString) {
+		Objects.requireNonNull(charString);
+		return charString.length() == 1 ? Optional.of(charString.charAt(0)) : Optional.empty();
+	}
 }
@@ -0,0 +1,218 @@
+package com.github.alexisc183.jforconsol;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A table model whose columns are backed by arrays of <code>int</code>, <code>long</code>, <code>double</code> or <code>String</code> values.
+ * <p>
+ * The arrays are not copied, so changes to them are reflected by the model. The lengths of integers are computed arithmetically, and every value is appended straight to the buffer of the printable table. Numeric columns are aligned to the right by default.
+ * <p>
+ * Each column is stored with its type, so cells are measured and appended without checking the type of their column. This class is not thread-safe, since <code>double</code> values are measured by formatting them in a string builder of their column, which keeps the last measured value so that appending it right after does not format it again.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @since JForconsol 1.1.0
+ */
+public final class ColumnarTableModel implements TableModel {
+	private final int rowCount;
+	private final List<Column> columns = new ArrayList<>();
+	
+	/**
+	 * Creates a columnar table model with no columns.
+	 * 
+	 * @param rowCount the number of rows, which is the length of every column
+	 * @throws IllegalArgumentException if the provided number of rows is negative
+	 */
+	public ColumnarTableModel(int rowCount) {
+		if (rowCount < 0) {
+			throw new IllegalArgumentException("The number of rows cannot be negative");
+		}
+		
+		this.rowCount = rowCount;
+	}
+	
+	/**
+	 * Adds a column of <code>int</code> values.
+	 * 
+	 * @param values the values of the column
+	 * @return this table model
+	 * @throws IllegalArgumentException if the length of the provided array is not the number of rows
+	 * @throws NullPointerException if the provided array is <code>null</code>
+	 */
+	public ColumnarTableModel addColumn(int[] values) {
+		return addColumn(new IntColumn(values), values.length);
+	}
+	
+	/**
+	 * Adds a column of <code>long</code> values.
+	 * 
+	 * @param values the values of the column
+	 * @return this table model
+	 * @throws IllegalArgumentException if the length of the provided array is not the number of rows
+	 * @throws NullPointerException if the provided array is <code>null</code>
+	 */
+	public ColumnarTableModel addColumn(long[] values) {
+		return addColumn(new LongColumn(values), values.length);
+	}
+	
+	/**
+	 * Adds a column of <code>double</code> values, which are printed as by <code>String.valueOf(double)</code>.
+	 * 
+	 * @param values the values of the column
+	 * @return this table model
+	 * @throws IllegalArgumentException if the length of the provided array is not the number of rows
+	 * @throws NullPointerException if the provided array is <code>null</code>
+	 */
+	public ColumnarTableModel addColumn(double[] values) {
+		return addColumn(new DoubleColumn(values), values.length);
+	}
+	
+	/**
+	 * Adds a column of strings. <code>null</code> elements are printed as <code>"null"</code>.
+	 * 
+	 * @param values the values of the column
+	 * @return this table model
+	 * @throws IllegalArgumentException if the length of the provided array is not the number of rows
+	 * @throws NullPointerException if the provided array is <code>null</code>
+	 */
+	public ColumnarTableModel addColumn(String[] values) {
+		return addColumn(new StringColumn(values), values.length);
+	}
+	
+	private ColumnarTableModel addColumn(Column column, int length) {
+		if (length != rowCount) {
+			throw new IllegalArgumentException("The length of the column must be the number of rows");
+		}
+		
+		columns.add(column);
+		return this;
+	}
+	
+	@Override
+	public int getRowCount() {
+		return rowCount;
+	}
+	
+	@Override
+	public int getColumnCount() {
+		return columns.size();
+	}
+	
+	@Override
+	public int getCellLength(int row, int column) {
+		Objects.checkIndex(row, rowCount);
+		
+		return columns.get(column).getLength(row);
+	}
+	
+	@Override
+	public void appendCell(StringBuilder builder, int row, int column) {
+		Objects.checkIndex(row, rowCount);
+		
+		columns.get(column).append(builder, row);
+	}
+	
+	@Override
+	public boolean isRightAligned(int column) {
+		return columns.get(column).isRightAligned();
+	}
+	
+	private static int digitLength(long value) {
+		if (value < 0) {
+			// The magnitude of Long.MIN_VALUE has 19 digits, like Long.MAX_VALUE
+			return 1 + digitLength(value == Long.MIN_VALUE ? Long.MAX_VALUE : -value);
+		}
+		
+		int length = 1;
+		
+		for (long power = 10; length < 19 && value >= power; power *= 10) {
+			length++;
+		}
+		
+		return length;
+	}
+	
+	private sealed interface Column {
+		int getLength(int row);
+		
+		void append(StringBuilder builder, int row);
+		
+		default boolean isRightAligned() {
+			return true;
+		}
+	}
+	
+	private record IntColumn(int[] values) implements Column {
+		@Override
+		public int getLength(int row) {
+			return digitLength(values[row]);
+		}
+		
+		@Override
+		public void append(StringBuilder builder, int row) {
+			builder.append(values[row]);
+		}
+	}
+	
+	private record LongColumn(long[] values) implements Column {
+		@Override
+		public int getLength(int row) {
+			return digitLength(values[row]);
+		}
+		
+		@Override
+		public void append(StringBuilder builder, int row) {
+			builder.append(values[row]);
+		}
+	}
+	
+	private static final class DoubleColumn implements Column {
+		private final double[] values;
+		private final StringBuilder scratch = new StringBuilder();
+		private int scratchRow = -1;
+		private long scratchBits;
+		
+		DoubleColumn(double[] values) {
+			this.values = Objects.requireNonNull(values);
+		}
+		
+		@Override
+		public int getLength(int row) {
+			scratch.setLength(0);
+			scratch.append(values[row]);
+			scratchRow = row;
+			scratchBits = Double.doubleToRawLongBits(values[row]);
+			return scratch.length();
+		}
+		
+		@Override
+		public void append(StringBuilder builder, int row) {
+			// The value measured last is appended as it was formatted, unless it has been replaced since
+			if (row == scratchRow && Double.doubleToRawLongBits(values[row]) == scratchBits) {
+				builder.append(scratch);
+			}
+			else {
+				builder.append(values[row]);
+			}
+		}
+	}
+	
+	private record StringColumn(String[] values) implements Column {
+		@Override
+		public int getLength(int row) {
+			return String.valueOf(values[row]).length();
+		}
+		
+		@Override
+		public void append(StringBuilder builder, int row) {
+			builder.append(values[row]);
+		}
+		
+		@Override
+		public boolean isRightAligned() {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,238 @@
+package com.github.alexisc183.jforconsol;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A type capable of parsing the string representation of a <code>double</code> number.
+ * <p>
+ * Besides implementing {@link TryParser}, this class provides static methods that parse a <code>double</code> directly from a {@link CharSequence} or from a region of a <code>char</code> or <code>byte</code> array. The accepted strings are those accepted by {@link Double#parseDouble(String)}.
+ * <p>
+ * Decimal numbers with at most 15 significant digits and a decimal exponent between -22 and 22, which are most of the numbers entered by users, are converted without creating substrings: their significand and the power of ten are both exact <code>double</code> values, so a single multiplication or division is correctly rounded, as shown by W. D. Clinger. Any other string, including <code>"NaN"</code>, <code>"Infinity"</code> and hexadecimal numbers, is converted with <code>Double.parseDouble</code>. Strings that are decimal numbers with a misplaced character are rejected without falling back to it.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @since JForconsol 1.1.0
+ */
+public class DoubleParser implements TryParser<Double> {
+	private static final int MAX_EXACT_DIGITS = 15;
+	private static final double[] EXACT_POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	
+	/**
+	 * Creates a <code>double</code> parser.
+	 */
+	public DoubleParser() {
+		
+	}
+	
+	/**
+	 * Parses the given character sequence to convert it to <code>double</code>.
+	 * 
+	 * @param chars the representation of a <code>double</code> number
+	 * @return a <code>double</code> from the converted character sequence
+	 * @throws FormatException if the provided character sequence is not a <code>double</code> number
+	 * @throws NullPointerException if the provided character sequence is <code>null</code>
+	 */
+	public static double parseDouble(CharSequence chars) {
+		return parseDouble(chars, 0, chars.length());
+	}
+	
+	/**
+	 * Parses a region of the given character sequence to convert it to <code>double</code>.
+	 * 
+	 * @param chars a character sequence that contains the representation of a <code>double</code> number
+	 * @param from the index of the first character of the region
+	 * @param to the index after the last character of the region
+	 * @return a <code>double</code> from the converted region
+	 * @throws FormatException if the region is not a <code>double</code> number
+	 * @throws IndexOutOfBoundsException if the region is out of the bounds of the character sequence
+	 * @throws NullPointerException if the provided character sequence is <code>null</code>
+	 */
+	public static double parseDouble(CharSequence chars, int from, int to) {
+		return parse(chars, from, to);
+	}
+	
+	/**
+	 * Parses a region of the given array to convert it to <code>double</code>.
+	 * 
+	 * @param chars an array that contains the representation of a <code>double</code> number
+	 * @param from the index of the first character of the region
+	 * @param to the index after the last character of the region
+	 * @return a <code>double</code> from the converted region
+	 * @throws FormatException if the region is not a <code>double</code> number
+	 * @throws IndexOutOfBoundsException if the region is out of the bounds of the array
+	 * @throws NullPointerException if the provided array is <code>null</code>
+	 */
+	public static double parseDouble(char[] chars, int from, int to) {
+		return parse(chars, from, to);
+	}
+	
+	/**
+	 * Parses a region of the given array of ASCII bytes to convert it to <code>double</code>.
+	 * 
+	 * @param bytes an array that contains the representation of a <code>double</code> number
+	 * @param from the index of the first byte of the region
+	 * @param to the index after the last byte of the region
+	 * @return a <code>double</code> from the converted region
+	 * @throws FormatException if the region is not a <code>double</code> number
+	 * @throws IndexOutOfBoundsException if the region is out of the bounds of the array
+	 * @throws NullPointerException if the provided array is <code>null</code>
+	 */
+	public static double parseDouble(byte[] bytes, int from, int to) {
+		return parse(bytes, from, to);
+	}
+	
+	private static double parse(Object input, int from, int to) {
+		final double VALUE = parseOrNaN(input, from, to);
+		
+		if (Double.isNaN(VALUE) && !isNaN(input, from, to)) {
+			throw new FormatException("Passed string is not a double number");
+		}
+		
+		return VALUE;
+	}
+	
+	// Invalid regions result in NaN, which the isNaN method tells apart from the representations of NaN
+	private static double parseOrNaN(Object input, int from, int to) {
+		Objects.checkFromToIndex(from, to, ParserInput.length(input));
+		
+		int i = from;
+		final boolean IS_NEGATIVE = i < to && ParserInput.charAt(input, i) == '-';
+		
+		if (i < to && (IS_NEGATIVE || ParserInput.charAt(input, i) == '+')) {
+			i++;
+		}
+		
+		long significand = 0;
+		int significantDigits = 0;
+		int exponent = 0;
+		boolean hasDigits = false;
+		boolean isFraction = false;
+		
+		for (; i < to; i++) {
+			final char CHARACTER = ParserInput.charAt(input, i);
+			
+			if (CHARACTER == '.' && !isFraction) {
+				isFraction = true;
+				continue;
+			}
+			if (CHARACTER < '0' || CHARACTER > '9') {
+				break;
+			}
+			
+			hasDigits = true;
+			
+			// Digits beyond the capacity of a long only matter to the slow path, which parses them again
+			if (significantDigits < 18) {
+				significand = significand * 10 + (CHARACTER - '0');
+				
+				if (significand != 0) {
+					significantDigits++;
+				}
+				if (isFraction) {
+					exponent--;
+				}
+			}
+			else {
+				significantDigits++;
+				
+				if (!isFraction) {
+					exponent++;
+				}
+			}
+		}
+		
+		if (hasDigits && i < to && (ParserInput.charAt(input, i) == 'e' || ParserInput.charAt(input, i) == 'E')) {
+			i++;
+			
+			final boolean IS_EXPONENT_NEGATIVE = i < to && ParserInput.charAt(input, i) == '-';
+			
+			if (i < to && (IS_EXPONENT_NEGATIVE || ParserInput.charAt(input, i) == '+')) {
+				i++;
+			}
+			
+			final int EXPONENT_START = i;
+			int explicitExponent = 0;
+			
+			for (; i < to && ParserInput.charAt(input, i) >= '0' && ParserInput.charAt(input, i) <= '9'; i++) {
+				// Exponents this large overflow or underflow anyway, and clamping them keeps the sum from overflowing
+				explicitExponent = Math.min(explicitExponent * 10 + (ParserInput.charAt(input, i) - '0'), 100_000);
+			}
+			
+			if (i == EXPONENT_START) {
+				return Double.NaN;
+			}
+			
+			exponent += IS_EXPONENT_NEGATIVE ? -explicitExponent : explicitExponent;
+		}
+		
+		if (i < to || !hasDigits) {
+			// Characters of decimal numbers in the wrong place cannot be accepted by Double.parseDouble either
+			return i < to && "+-.0123456789eE".indexOf(ParserInput.charAt(input, i)) < 0 ? parseSlowly(input, from, to) : Double.NaN;
+		}
+		if (significantDigits > MAX_EXACT_DIGITS || Math.abs(exponent) >= EXACT_POWERS_OF_TEN.length) {
+			return parseSlowly(input, from, to);
+		}
+		
+		final double VALUE = exponent >= 0 ? significand * EXACT_POWERS_OF_TEN[exponent] : significand / EXACT_POWERS_OF_TEN[-exponent];
+		
+		return IS_NEGATIVE ? -VALUE : VALUE;
+	}
+	
+	private static double parseSlowly(Object input, int from, int to) {
+		try {
+			return Double.parseDouble(ParserInput.toString(input, from, to));
+		}
+		catch (NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+	
+	private static boolean isNaN(Object input, int from, int to) {
+		// As in Double.parseDouble, the representation can have a sign and be surrounded by whitespace and control characters
+		int start = from;
+		int end = to;
+		
+		while (start < end && ParserInput.charAt(input, start) <= ' ') {
+			start++;
+		}
+		while (end > start && ParserInput.charAt(input, end - 1) <= ' ') {
+			end--;
+		}
+		if (start < end && (ParserInput.charAt(input, start) == '+' || ParserInput.charAt(input, start) == '-')) {
+			start++;
+		}
+		
+		return end - start == 3 && ParserInput.charAt(input, start) == 'N' && ParserInput.charAt(input, start + 1) == 'a' && ParserInput.charAt(input, start + 2) == 'N';
+	}
+	
+	/**
+	 * Parses the given string to convert it to <code>Double</code>.
+	 * 
+	 * @param doubleString the string representation of a <code>double</code> number
+	 * @return a <code>Double</code> from the converted string
+	 * @throws FormatException if the provided string is not a <code>double</code> number
+	 * @throws NullPointerException if the provided string is <code>null</code>
+	 */
+	@Override
+	public Double parse(String doubleString) {
+		return parseDouble(doubleString);
+	}
+	
+	/**
+	 * Parses the given string to convert it to <code>Double</code>, if the string is a <code>double</code> number.
+	 * 
+	 * @param doubleString the string representation of a <code>double</code> number
+	 * @return an <code>Optional</code> with a <code>Double</code> from the converted string, or an empty <code>Optional</code> if the provided string is not a <code>double</code> number
+	 * @throws NullPointerException if the provided string is <code>null</code>
+	 */
+	@Override
+	public Optional<Double> tryParse(String doubleString) {
+		final double VALUE = parseOrNaN(Objects.requireNonNull(doubleString), 0, doubleString.length());
+		
+		return Double.isNaN(VALUE) && !isNaN(doubleString, 0, doubleString.length()) ? Optional.empty() : Optional.of(VALUE);
+	}
+}
@@ -1,8 +1,13 @@
 package com.github.alexisc183.jforconsol;
 
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
 import java.util.function.Predicate;
+import java.util.List;
 import java.util.Objects;
-import java.util.Scanner;
 
 /**
  * Requests of an input value to the user with the certainty of said value always being correct.
@@ -10,19 +15,23 @@ import java.util.Scanner;
  * The purpose of this class is the same as {@link JInputRequest}. The major difference is that the <code>InputRequest</code> class fits those environments where GUIs cannot be rendered, like server-oriented operating systems. On the other hand the <code>JInputRequest</code> class is implemented with a Java Swing component, concretely a {@link javax.swing.JOptionPane} dialog.
  * <p>
  * The <code>InputRequest</code> class is implemented by using the {@link java.util.Scanner} class with the {@link System#in} field. Once any of the <code>request</code> methods of the <code>InputRequest</code> class is invoked, the <code>Scanner</code> class is instantiated and only once. This last operation means that at some point the <code>Scanner</code> instance must be closed. The <code>InputRequest</code> class provides a method for that.
+ * <p>
+ * If the Java virtual machine has no console, which usually means that the "standard" input stream is redirected from a file or a pipe, a {@link java.io.BufferedReader} is instantiated instead of the <code>Scanner</code>, since reading lines with it does not involve regular expressions. Many inputs can be requested in one call with the <code>requestAll</code> methods.
+ * <p>
+ * Requests are served by a default {@link InputSession} over the "standard" streams, with options taken from the properties of this class when each request starts. Those properties are shared by every thread, so programs that request inputs from several threads or consoles should rather use their own <code>InputSession</code> instances.
  * 
  * @author AlexisC183
- * @version 1, 2025-05-30
+ * @version 2, 2026-10-18
  * @see JInputRequest
  * @since JForconsol 1.0.0
  */
 public final class InputRequest {
 	private static boolean isClosed;
-	private static Scanner scanner;
+	private static InputSession session;
 	
-	private static boolean isSkippable;
-	private static String errorMessage;
-	private static String requestMessage;
+	private static volatile boolean isSkippable;
+	private static volatile String errorMessage;
+	private static volatile String requestMessage;
 	
 	private InputRequest() {
 		
@@ -114,58 +123,170 @@ public final class InputRequest {
 	 * @see #isSkippable()
 	 */
 	public static <T> T request(Parser<T> parseMethod, Predicate<T> condition) {
-		doGeneralChecks(parseMethod);
-		return ensureInstance(parseMethod, condition);
+		Objects.requireNonNull(parseMethod);
+		
+		return session().request(options(), parseMethod, condition);
 	}
-
-	private static <T> void doGeneralChecks(Parser<T> parseMethod) {
+	
+	/**
+	 * Requests an <code>int</code> number and tests it with the provided predicate, without boxing it.
+	 * 
+	 * @param condition the predicate used to test the input, or <code>null</code> to accept any <code>int</code> number
+	 * @return an <code>int</code> from the converted input, or zero if the request was skipped according to the <code>isSkippable</code> method
+	 * @see #isSkippable()
+	 * @see IntParser#parseInt(CharSequence)
+	 * @since JForconsol 1.1.0
+	 */
+	public static int requestInt(IntPredicate condition) {
+		return requestInt(condition, 0);
+	}
+	
+	/**
+	 * Requests an <code>int</code> number and tests it with the provided predicate, without boxing it.
+	 * 
+	 * @param condition the predicate used to test the input, or <code>null</code> to accept any <code>int</code> number
+	 * @param defaultValue the value to return if the request is skipped
+	 * @return an <code>int</code> from the converted input, or the default value if the request was skipped according to the <code>isSkippable</code> method
+	 * @see #isSkippable()
+	 * @see IntParser#parseInt(CharSequence)
+	 * @since JForconsol 1.1.0
+	 */
+	public static int requestInt(IntPredicate condition, int defaultValue) {
+		return session().requestInt(options(), condition, defaultValue);
+	}
+	
+	/**
+	 * Requests a <code>long</code> number and tests it with the provided predicate, without boxing it.
+	 * 
+	 * @param condition the predicate used to test the input, or <code>null</code> to accept any <code>long</code> number
+	 * @return a <code>long</code> from the converted input, or zero if the request was skipped according to the <code>isSkippable</code> method
+	 * @see #isSkippable()
+	 * @see LongParser#parseLong(CharSequence)
+	 * @since JForconsol 1.1.0
+	 */
+	public static long requestLong(LongPredicate condition) {
+		return requestLong(condition, 0);
+	}
+	
+	/**
+	 * Requests a <code>long</code> number and tests it with the provided predicate, without boxing it.
+	 * 
+	 * @param condition the predicate used to test the input, or <code>null</code> to accept any <code>long</code> number
+	 * @param defaultValue the value to return if the request is skipped
+	 * @return a <code>long</code> from the converted input, or the default value if the request was skipped according to the <code>isSkippable</code> method
+	 * @see #isSkippable()
+	 * @see LongParser#parseLong(CharSequence)
+	 * @since JForconsol 1.1.0
+	 */
+	public static long requestLong(LongPredicate condition, long defaultValue) {
+		return session().requestLong(options(), condition, defaultValue);
+	}
+	
+	/**
+	 * Requests the input on a virtual thread and processes it with the provided conversion method and predicate, so the calling thread can keep working, for example toggling a {@link LoadingMessage}, while the user enters the input.
+	 * <p>
+	 * The options of the request are taken from the properties of this class when this method is invoked. Cancelling the returned future stops the request without interrupting any thread, as described in {@link InputSession#requestAsync(InputSession.Options, Parser, Predicate)}.
+	 * 
+	 * @param <T> the type of the input to request
+	 * @param parseMethod the method that converts a string to <code>T</code>
+	 * @param condition the predicate used to test the input
+	 * @return a future of the <code>T</code> from the converted input, or of <code>null</code> if the request was skipped according to the <code>isSkippable</code> method
+	 * @see #isSkippable()
+	 * @since JForconsol 1.1.0
+	 */
+	public static <T> CompletableFuture<T> requestAsync(Parser<T> parseMethod, Predicate<T> condition) {
+		Objects.requireNonNull(parseMethod);
+		
+		return session().requestAsync(options(), parseMethod, condition);
+	}
+	
+	/**
+	 * Requests the input on a virtual thread and processes it with the provided conversion method and predicate, giving up after the provided timeout.
+	 * 
+	 * @param <T> the type of the input to request
+	 * @param parseMethod the method that converts a string to <code>T</code>
+	 * @param condition the predicate used to test the input
+	 * @param timeout the maximum time to wait for a valid input
+	 * @return a future of the <code>T</code> from the converted input, of <code>null</code> if the request was skipped according to the <code>isSkippable</code> method, or completed exceptionally with a {@link java.util.concurrent.TimeoutException} if the timeout elapses first
+	 * @see #requestAsync(Parser, Predicate)
+	 * @since JForconsol 1.1.0
+	 */
+	public static <T> CompletableFuture<T> requestAsync(Parser<T> parseMethod, Predicate<T> condition, Duration timeout) {
+		Objects.requireNonNull(parseMethod);
+		
+		return session().requestAsync(options(), parseMethod, condition, timeout);
+	}
+	
+	/**
+	 * Requests the provided number of inputs and processes each one with the provided conversion method.
+	 * 
+	 * @param <T> the type of the inputs to request
+	 * @param parseMethod the method that converts a string to <code>T</code>
+	 * @param n the number of inputs to request
+	 * @return a list of the <code>T</code> instances from the converted inputs in the order they were entered, with <code>null</code> elements for the requests that were skipped according to the <code>isSkippable</code> method
+	 * @throws IllegalArgumentException if the provided number is negative
+	 * @see #isSkippable()
+	 * @since JForconsol 1.1.0
+	 */
+	public static <T> List<T> requestAll(Parser<T> parseMethod, int n) {
+		return requestAll(parseMethod, null, n);
+	}
+	
+	/**
+	 * Requests the provided number of inputs and processes each one with the provided conversion method and predicate.
+	 * 
+	 * @param <T> the type of the inputs to request
+	 * @param parseMethod the method that converts a string to <code>T</code>
+	 * @param condition the predicate used to test each input
+	 * @param n the number of inputs to request
+	 * @return a list of the <code>T</code> instances from the converted inputs in the order they were entered, with <code>null</code> elements for the requests that were skipped according to the <code>isSkippable</code> method
+	 * @throws IllegalArgumentException if the provided number is negative
+	 * @see #isSkippable()
+	 * @since JForconsol 1.1.0
+	 */
+	public static <T> List<T> requestAll(Parser<T> parseMethod, Predicate<T> condition, int n) {
 		Objects.requireNonNull(parseMethod);
 		
+		return session().requestAll(options(), parseMethod, condition, n);
+	}
+
+	private static synchronized InputSession session() {
 		if (isClosed) {
 			throw new IllegalStateException("This class has been closed");
 		}
-		if (scanner == null) {
-			scanner = new Scanner(System.in);
+		if (session == null) {
+			session = InputSession.ofStandardStreams();
 		}
+		
+		return session;
 	}
 	
-	private static <T> T ensureInstance(Parser<T> parseMethod, Predicate<T> condition) {
-		while (true) {
-			T instance = null;
-			
-			System.out.print(requestMessage == null ? "" : requestMessage);
-			
-			String input = scanner.nextLine();
-			
-			if (isSkippable && input.equals("")) {
-				return instance;
-			}
-			
-			try {
-				instance = parseMethod.parse(input);
-				
-				if (condition != null && !condition.test(instance)) {
-					throw new IllegalArgumentException();
-				}
-				
-				return instance;
-			}
-			catch (Exception e) {
-				System.out.println(errorMessage == null ? "Invalid input!" : errorMessage);
-			}
-		}
+	private static InputSession.Options options() {
+		return new InputSession.Options(isSkippable, errorMessage, requestMessage);
 	}
-
+	
 	/**
-	 * Closes the <code>Scanner</code> associated with this class.
+	 * Reads a line with the default session of this class, with no request message nor validation.
+	 * 
+	 * @return the next line of the "standard" input stream, or <code>null</code> if there are no more lines
+	 * @throws IllegalStateException if this class has been closed
+	 */
+	static String nextLine() {
+		return session().nextLine();
+	}
+	
+	/**
+	 * Closes the default session of this class, and therefore its <code>Scanner</code> or <code>BufferedReader</code>.
 	 * <p>
 	 * Once this method is invoked, all of the <code>request</code> methods become unusable and throw an <code>IllegalStateException</code> regardless of whether the scanner was ever open.
+	 * 
+	 * @throws UncheckedIOException if an I/O error occurs while closing the reader
 	 */
-	public static void close() {
-		if (scanner != null) {
-			scanner.close();
-		}
-		
+	public static synchronized void close() {
 		isClosed = true;
+		
+		if (session != null) {
+			session.close();
+		}
 	}
 }
@@ -0,0 +1,713 @@
+package com.github.alexisc183.jforconsol;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Scanner;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Requests of input values to the user of a console with the certainty of said values always being correct.
+ * <p>
+ * The purpose of this class is the same as {@link InputRequest}, but each instance reads from its own input stream and prints on its own print stream, so a single Java virtual machine can serve many consoles at the same time, for example one per socket. The behavior of each request is described by an immutable {@link Options} instance instead of by mutable state.
+ * <p>
+ * Every instance is thread-safe. A request holds the turn of its session from its first request message until it returns, so the messages and inputs of concurrent requests on the same session are never interleaved. Asynchronous requests wait for their turn on virtual threads, so pending requests do not tie up platform threads.
+ * <p>
+ * The input stream of a session is read by a single virtual thread, which is started by the first request and reads a line whenever a request waits for one. Lines that are already available, for example piped ones, may be read ahead. A request that stops waiting, because it was cancelled or timed out, does not affect that thread, so a line that arrives afterwards is kept for the next request instead of being lost.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @see InputRequest
+ * @since JForconsol 1.1.0
+ */
+public final class InputSession implements Closeable {
+	/**
+	 * The behavior of a request.
+	 * 
+	 * @param isSkippable If <code>true</code>, pressing Enter won't result in an invalid requested input, otherwise will.
+	 * @param errorMessage the string that is printed if the user enters an invalid input, or <code>null</code> for a default message
+	 * @param requestMessage the string that is printed when requesting the input, or <code>null</code> for no message
+	 */
+	public record Options(boolean isSkippable, String errorMessage, String requestMessage) {
+		/**
+		 * The options of requests that cannot be skipped and have no custom messages.
+		 */
+		public static final Options DEFAULT = new Options(false, null, null);
+		
+		/**
+		 * Returns a copy of these options with the provided skippability.
+		 * 
+		 * @param value If <code>true</code>, pressing Enter won't result in an invalid requested input, otherwise will.
+		 * @return options that only differ from these in their skippability
+		 */
+		public Options withSkippable(boolean value) {
+			return new Options(value, errorMessage, requestMessage);
+		}
+		
+		/**
+		 * Returns a copy of these options with the provided error message.
+		 * 
+		 * @param errorMessage the string that is printed if the user enters an invalid input
+		 * @return options that only differ from these in their error message
+		 */
+		public Options withErrorMessage(String errorMessage) {
+			return new Options(isSkippable, errorMessage, requestMessage);
+		}
+		
+		/**
+		 * Returns a copy of these options with the provided request message.
+		 * 
+		 * @param requestMessage the string that is printed when requesting the input
+		 * @return options that only differ from these in their request message
+		 */
+		public Options withRequestMessage(String requestMessage) {
+			return new Options(isSkippable, errorMessage, requestMessage);
+		}
+	}
+	
+	/**
+	 * The value that <code>processInput</code> returns for invalid inputs.
+	 */
+	static final Object INVALID_INPUT = new Object();
+	
+	// Lines that are already available are read ahead up to this amount, and handed over in batches
+	private static final int READ_AHEAD_LIMIT = 1 << 10;
+	private static final int READ_BATCH = 1 << 6;
+	// The deadline of requests that do not time out
+	private static final long NO_DEADLINE = Long.MAX_VALUE;
+	
+	private final InputStream in;
+	private final Scanner scanner;
+	private final BufferedReader reader;
+	private final PrintStream out;
+	// Guards the state below, and is never held while reading or printing
+	private final ReentrantLock lock = new ReentrantLock();
+	// Signalled when the turn is released, when lines are queued or fail to be read, and when lines are wanted
+	private final Condition turnReleased = lock.newCondition();
+	private final Condition linesQueued = lock.newCondition();
+	private final Condition linesWanted = lock.newCondition();
+	private final ArrayDeque<String> lines = new ArrayDeque<>();
+	private Thread readerThread;
+	private boolean isTurnTaken;
+	private boolean isLineWanted;
+	private RuntimeException readFailure;
+	private volatile boolean isClosed;
+	
+	/**
+	 * Creates an input session that reads lines from the provided input stream, decoding them with the default charset, and prints messages on the provided print stream.
+	 * 
+	 * @param in the input stream to read the inputs from
+	 * @param out the print stream to print the messages on
+	 * @throws NullPointerException if the provided input stream or print stream is <code>null</code>
+	 */
+	public InputSession(InputStream in, PrintStream out) {
+		this(in, new BufferedReader(new InputStreamReader(Objects.requireNonNull(in), Charset.defaultCharset())), null, out);
+	}
+	
+	private InputSession(InputStream in, BufferedReader reader, Scanner scanner, PrintStream out) {
+		this.in = in;
+		this.reader = reader;
+		this.scanner = scanner;
+		this.out = Objects.requireNonNull(out);
+	}
+	
+	/**
+	 * Creates an input session over the "standard" streams. If the Java virtual machine has a console, lines are read with a <code>Scanner</code> as in previous versions of the <code>InputRequest</code> class; otherwise they are read with a <code>BufferedReader</code>.
+	 * 
+	 * @return a new input session over <code>System.in</code> and <code>System.out</code>
+	 */
+	static InputSession ofStandardStreams() {
+		return System.console() == null ? new InputSession(System.in, System.out) : new InputSession(System.in, null, new Scanner(System.in), System.out);
+	}
+	
+	/**
+	 * Requests the input with no additional processing.
+	 * 
+	 * @param options the behavior of the request
+	 * @return a string of the input, or <code>null</code> if the request was skipped according to the provided options
+	 * @throws IllegalStateException if this session has been closed
+	 * @throws NoSuchElementException if the input stream has no more lines
+	 * @throws NullPointerException if the provided options are <code>null</code>
+	 */
+	public String request(Options options) {
+		return request(options, s -> s, null);
+	}
+	
+	/**
+	 * Requests the input and processes it with the provided conversion method.
+	 * 
+	 * @param <T> the type of the input to request
+	 * @param options the behavior of the request
+	 * @param parseMethod the method that converts a string to <code>T</code>
+	 * @return a <code>T</code> from the converted input, or <code>null</code> if the request was skipped according to the provided options
+	 * @throws IllegalStateException if this session has been closed
+	 * @throws NoSuchElementException if the input stream has no more lines
+	 * @throws NullPointerException if the provided options or method are <code>null</code>
+	 */
+	public <T> T request(Options options, Parser<T> parseMethod) {
+		return request(options, parseMethod, null);
+	}
+	
+	/**
+	 * Requests the input and processes it with the provided conversion method and predicate.
+	 * 
+	 * @param <T> the type of the input to request
+	 * @param options the behavior of the request
+	 * @param parseMethod the method that converts a string to <code>T</code>
+	 * @param condition the predicate used to test the input
+	 * @return a <code>T</code> from the converted input, or <code>null</code> if the request was skipped according to the provided options
+	 * @throws IllegalStateException if this session has been closed
+	 * @throws NoSuchElementException if the input stream has no more lines
+	 * @throws NullPointerException if the provided options or method are <code>null</code>
+	 */
+	public <T> T request(Options options, Parser<T> parseMethod, Predicate<T> condition) {
+		Objects.requireNonNull(options);
+		Objects.requireNonNull(parseMethod);
+		acquireTurn(null, NO_DEADLINE);
+		
+		try {
+			return ensureInstance(options, parseMethod, condition, null, NO_DEADLINE);
+		}
+		finally {
+			releaseTurn();
+		}
+	}
+	
+	/**
+	 * Requests an <code>int</code> number and tests it with the provided predicate, without boxing it. The input is converted as by {@link IntParser#parseInt(CharSequence)}.
+	 * 
+	 * @param options the behavior of the request
+	 * @param condition the predicate used to test the input, or <code>null</code> to accept any <code>int</code> number
+	 * @param defaultValue the value to return if the request is skipped
+	 * @return an <code>int</code> from the converted input, or the default value if the request was skipped according to the provided options
+	 * @throws IllegalStateException if this session has been closed
+	 * @throws NoSuchElementException if the input stream has no more lines
+	 * @throws NullPointerException if the provided options are <code>null</code>
+	 */
+	public int requestInt(Options options, IntPredicate condition, int defaultValue) {
+		return (int)requestInteger(options, Integer.MIN_VALUE, Integer.MAX_VALUE, condition == null ? null : value -> condition.test((int)value), defaultValue);
+	}
+	
+	/**
+	 * Requests a <code>long</code> number and tests it with the provided predicate, without boxing it. The input is converted as by {@link LongParser#parseLong(CharSequence)}.
+	 * 
+	 * @param options the behavior of the request
+	 * @param condition the predicate used to test the input, or <code>null</code> to accept any <code>long</code> number
+	 * @param defaultValue the value to return if the request is skipped
+	 * @return a <code>long</code> from the converted input, or the default value if the request was skipped according to the provided options
+	 * @throws IllegalStateException if this session has been closed
+	 * @throws NoSuchElementException if the input stream has no more lines
+	 * @throws NullPointerException if the provided options are <code>null</code>
+	 */
+	public long requestLong(Options options, LongPredicate condition, long defaultValue) {
+		return requestInteger(options, Long.MIN_VALUE, Long.MAX_VALUE, condition, defaultValue);
+	}
+	
+	private long requestInteger(Options options, long min, long max, LongPredicate condition, long defaultValue) {
+		Objects.requireNonNull(options);
+		acquireTurn(null, NO_DEADLINE);
+		
+		try {
+			while (true) {
+				out.print(options.requestMessage() == null ? "" : options.requestMessage());
+				
+				String input = takeLine(null, NO_DEADLINE);
+				
+				if (options.isSkippable() && input.equals("")) {
+					return defaultValue;
+				}
+				
+				final long MAGNITUDE = LongParser.parseNegatedMagnitude(input, 0, input.length(), min, max);
+				
+				if (MAGNITUDE != LongParser.INVALID) {
+					final long VALUE = LongParser.applySign(input, 0, MAGNITUDE);
+					
+					if (isAccepted(condition, VALUE)) {
+						return VALUE;
+					}
+				}
+				
+				out.println(options.errorMessage() == null ? "Invalid input!" : options.errorMessage());
+			}
+		}
+		finally {
+			releaseTurn();
+		}
+	}
+	
+	private static boolean isAccepted(LongPredicate condition, long value) {
+		try {
+			return condition == null || condition.test(value);
+		}
+		catch (Exception e) {
+			// Predicates that throw reject the input, as in the other requests
+			return false;
+		}
+	}
+	
+	/**
+	 * Requests the input on a virtual thread and processes it with the provided conversion method and predicate.
+	 * <p>
+	 * The returned future is completed with the same value that the <code>request</code> method would return, or exceptionally with the exception that it would throw. If the future is completed by other means, for example by cancelling it, then the request stops waiting for its turn or for a line and does not request the input again. No thread is interrupted for that, so the input stream stays usable and a line that arrives afterwards is kept for the next request of this session.
+	 * 
+	 * @param <T> the type of the input to request
+	 * @param options the behavior of the request
+	 * @param parseMethod the method that converts a string to <code>T</code>
+	 * @param condition the predicate used to test the input
+	 * @return a future of the <code>T</code> from the converted input, or of <code>null</code> if the request was skipped according to the provided options
+	 * @throws NullPointerException if the provided options or method are <code>null</code>
+	 * @see #request(Options, Parser, Predicate)
+	 */
+	public <T> CompletableFuture<T> requestAsync(Options options, Parser<T> parseMethod, Predicate<T> condition) {
+		return requestAsync(options, parseMethod, condition, NO_DEADLINE);
+	}
+	
+	/**
+	 * Requests the input on a virtual thread and processes it with the provided conversion method and predicate, giving up after the provided timeout.
+	 * <p>
+	 * The timeout covers the wait for the turn of this session and for each line. Once it elapses, the request stops waiting as if its future were cancelled.
+	 * 
+	 * @param <T> the type of the input to request
+	 * @param options the behavior of the request
+	 * @param parseMethod the method that converts a string to <code>T</code>
+	 * @param condition the predicate used to test the input
+	 * @param timeout the maximum time to wait for a valid input
+	 * @return a future of the <code>T</code> from the converted input, of <code>null</code> if the request was skipped according to the provided options, or completed exceptionally with a {@link TimeoutException} if the timeout elapses first
+	 * @throws NullPointerException if the provided options, method or timeout are <code>null</code>
+	 * @see #requestAsync(Options, Parser, Predicate)
+	 */
+	public <T> CompletableFuture<T> requestAsync(Options options, Parser<T> parseMethod, Predicate<T> condition, Duration timeout) {
+		final long NANOS = timeout.toNanos();
+		final long NOW = System.nanoTime();
+		final long DEADLINE = NOW + NANOS;
+		
+		// Timeouts that overflow the deadline are as good as no timeout
+		return requestAsync(options, parseMethod, condition, NANOS > 0 && DEADLINE < NOW ? NO_DEADLINE : DEADLINE);
+	}
+	
+	private <T> CompletableFuture<T> requestAsync(Options options, Parser<T> parseMethod, Predicate<T> condition, long deadline) {
+		Objects.requireNonNull(options);
+		Objects.requireNonNull(parseMethod);
+		
+		final CompletableFuture<T> FUTURE = new CompletableFuture<>();
+		
+		Thread.ofVirtual().name("InputSession request").start(() -> {
+			try {
+				acquireTurn(FUTURE, deadline);
+				
+				try {
+					FUTURE.complete(ensureInstance(options, parseMethod, condition, FUTURE, deadline));
+				}
+				finally {
+					releaseTurn();
+				}
+			}
+			catch (Throwable e) {
+				FUTURE.completeExceptionally(e);
+			}
+		});
+		
+		FUTURE.whenComplete((instance, e) -> {
+			if (e != null) {
+				// Wakes the request up so it sees that its future is done
+				signalChange();
+			}
+		});
+		
+		return FUTURE;
+	}
+	
+	/**
+	 * Requests the provided number of inputs and processes each one with the provided conversion method and predicate. No other request of this session is served until the last input is entered.
+	 * 
+	 * @param <T> the type of the inputs to request
+	 * @param options the behavior of each request
+	 * @param parseMethod the method that converts a string to <code>T</code>
+	 * @param condition the predicate used to test each input
+	 * @param n the number of inputs to request
+	 * @return a list of the <code>T</code> instances from the converted inputs in the order they were entered, with <code>null</code> elements for the requests that were skipped according to the provided options
+	 * @throws IllegalArgumentException if the provided number is negative
+	 * @throws IllegalStateException if this session has been closed
+	 * @throws NoSuchElementException if the input stream has no more lines
+	 * @throws NullPointerException if the provided options or method are <code>null</code>
+	 */
+	public <T> List<T> requestAll(Options options, Parser<T> parseMethod, Predicate<T> condition, int n) {
+		Objects.requireNonNull(options);
+		Objects.requireNonNull(parseMethod);
+		
+		if (n < 0) {
+			throw new IllegalArgumentException("The number of inputs cannot be negative");
+		}
+		
+		acquireTurn(null, NO_DEADLINE);
+		
+		try {
+			final List<T> INSTANCES = new ArrayList<>(n);
+			
+			for (int i = 0; i < n; i++) {
+				INSTANCES.add(ensureInstance(options, parseMethod, condition, null, NO_DEADLINE));
+			}
+			
+			return INSTANCES;
+		}
+		finally {
+			releaseTurn();
+		}
+	}
+	
+	/**
+	 * Reads a line of this session with no request message nor validation.
+	 * 
+	 * @return the next line of the input stream, or <code>null</code> if there are no more lines
+	 * @throws IllegalStateException if this session has been closed
+	 */
+	String nextLine() {
+		acquireTurn(null, NO_DEADLINE);
+		
+		try {
+			return takeLine(null, NO_DEADLINE);
+		}
+		catch (NoSuchElementException e) {
+			return null;
+		}
+		finally {
+			releaseTurn();
+		}
+	}
+	
+	private void checkOpen() {
+		if (isClosed) {
+			throw new IllegalStateException("This session has been closed");
+		}
+	}
+	
+	/**
+	 * Waits until no other request of this session is being served, and then takes the turn of this session. Must be invoked without holding the lock.
+	 * 
+	 * @param request the future of an asynchronous request, which stops waiting once it is done, or <code>null</code>
+	 * @param deadline the value of <code>System.nanoTime()</code> at which the request times out, or <code>NO_DEADLINE</code>
+	 */
+	private void acquireTurn(CompletableFuture<?> request, long deadline) {
+		lock.lock();
+		
+		try {
+			while (isTurnTaken) {
+				checkOpen();
+				await(turnReleased, request, deadline);
+			}
+			
+			checkOpen();
+			isTurnTaken = true;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+	
+	private void releaseTurn() {
+		lock.lock();
+		
+		try {
+			isTurnTaken = false;
+			turnReleased.signalAll();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+	
+	private void signalChange() {
+		lock.lock();
+		
+		try {
+			turnReleased.signalAll();
+			linesQueued.signalAll();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Takes the next line of this session, asking the reader thread for one if none has been read yet. Must be invoked while holding the turn but not the lock.
+	 * 
+	 * @param request the future of an asynchronous request, which stops waiting once it is done, or <code>null</code>
+	 * @param deadline the value of <code>System.nanoTime()</code> at which the request times out, or <code>NO_DEADLINE</code>
+	 * @return the next line
+	 */
+	private String takeLine(CompletableFuture<?> request, long deadline) {
+		lock.lock();
+		
+		try {
+			if (request != null && request.isDone()) {
+				// A cancelled request must not consume a line that is already queued
+				throw new CancellationException("The request was cancelled");
+			}
+			
+			while (lines.isEmpty()) {
+				checkOpen();
+				
+				if (readFailure instanceof NoSuchElementException) {
+					throw new NoSuchElementException("No line found");
+				}
+				if (readFailure != null) {
+					throw readFailure;
+				}
+				
+				isLineWanted = true;
+				
+				if (readerThread == null) {
+					readerThread = Thread.ofVirtual().name("InputSession reader").start(this::readLines);
+				}
+				
+				linesWanted.signal();
+				
+				try {
+					await(linesQueued, request, deadline);
+				}
+				finally {
+					// A line that is being read when the request gives up stays queued for the next request
+					isLineWanted = false;
+				}
+			}
+			
+			checkOpen();
+			return lines.poll();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Waits for a signal of the provided condition. Must be invoked while holding the lock.
+	 * 
+	 * @param condition the condition to wait for
+	 * @param request the future of an asynchronous request, or <code>null</code> for synchronous requests, which wait uninterruptibly
+	 * @param deadline the value of <code>System.nanoTime()</code> at which the request times out, or <code>NO_DEADLINE</code>
+	 * @throws CancellationException if the request is done, or once the deadline is reached, in which case its future is completed with a <code>TimeoutException</code>
+	 */
+	private void await(Condition condition, CompletableFuture<?> request, long deadline) {
+		if (request == null) {
+			condition.awaitUninterruptibly();
+			return;
+		}
+		if (request.isDone()) {
+			throw new CancellationException("The request was cancelled");
+		}
+		
+		try {
+			if (deadline == NO_DEADLINE) {
+				condition.await();
+			}
+			else if (condition.awaitNanos(deadline - System.nanoTime()) <= 0) {
+				// The future is completed here, so the exception only unwinds the request
+				request.completeExceptionally(new TimeoutException("The request timed out"));
+				throw new CancellationException("The request timed out");
+			}
+		}
+		catch (InterruptedException e) {
+			throw new CancellationException("The request was interrupted");
+		}
+	}
+	
+	private void readLines() {
+		RuntimeException failure = null;
+		boolean isReady = false;
+		
+		while (failure == null && awaitRead(isReady)) {
+			final List<String> BATCH = new ArrayList<>(READ_BATCH);
+			
+			try {
+				do {
+					BATCH.add(readLine());
+				}
+				while (BATCH.size() < READ_BATCH && isReady());
+				
+				isReady = isReady();
+			}
+			catch (RuntimeException e) {
+				failure = e;
+			}
+			
+			lock.lock();
+			
+			try {
+				lines.addAll(BATCH);
+				readFailure = failure;
+				linesQueued.signalAll();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+	
+	/**
+	 * Waits until a request wants a line and none is queued, or until more lines can be read ahead.
+	 * 
+	 * @param isReady whether the input stream has more lines available without blocking
+	 * @return <code>true</code> if a line should be read; <code>false</code> if this session has been closed
+	 */
+	private boolean awaitRead(boolean isReady) {
+		lock.lock();
+		
+		try {
+			while (!isClosed && !(isLineWanted && lines.isEmpty()) && !(isReady && lines.size() < READ_AHEAD_LIMIT)) {
+				linesWanted.awaitUninterruptibly();
+			}
+			
+			return !isClosed;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+	
+	private boolean isReady() {
+		if (scanner != null) {
+			// Scanner cannot tell whether a line is available without blocking
+			return false;
+		}
+		
+		try {
+			return !isClosed && reader.ready();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private String readLine() {
+		if (scanner != null) {
+			return scanner.nextLine();
+		}
+		
+		try {
+			final String LINE = reader.readLine();
+			
+			if (LINE == null) {
+				throw new NoSuchElementException("No line found");
+			}
+			
+			return LINE;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+	 * Parses and tests the provided input without throwing exceptions if the parsing method is a {@link TryParser}. Exceptions thrown by other parsing methods or by the predicate also make the input invalid.
+	 * 
+	 * @param <T> the type of the input
+	 * @param input the input to process
+	 * @param parseMethod the method that converts a string to <code>T</code>
+	 * @param condition the predicate used to test the input, or <code>null</code>
+	 * @return a <code>T</code> from the converted input, or <code>INVALID_INPUT</code> if the input cannot be converted or does not satisfy the predicate
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T processInput(String input, Parser<T> parseMethod, Predicate<T> condition) {
+		try {
+			if (parseMethod instanceof TryParser<T> tryParser) {
+				final Optional<T> INSTANCE = tryParser.tryParse(input);
+				
+				if (INSTANCE.isPresent() && (condition == null || condition.test(INSTANCE.get()))) {
+					return INSTANCE.get();
+				}
+			}
+			else {
+				final T INSTANCE = parseMethod.parse(input);
+				
+				if (condition == null || condition.test(INSTANCE)) {
+					return INSTANCE;
+				}
+			}
+		}
+		catch (Exception e) {
+			// Parsers that are not TryParser instances can only report invalid inputs by throwing
+		}
+		
+		return (T)INVALID_INPUT;
+	}
+	
+	private <T> T ensureInstance(Options options, Parser<T> parseMethod, Predicate<T> condition, CompletableFuture<?> request, long deadline) {
+		while (true) {
+			T instance = null;
+			
+			if (request != null && request.isDone()) {
+				throw new CancellationException("The request was cancelled");
+			}
+			
+			out.print(options.requestMessage() == null ? "" : options.requestMessage());
+			
+			String input = takeLine(request, deadline);
+			
+			if (options.isSkippable() && input.equals("")) {
+				return instance;
+			}
+			
+			instance = processInput(input, parseMethod, condition);
+			
+			if (instance != INVALID_INPUT) {
+				return instance;
+			}
+			
+			out.println(options.errorMessage() == null ? "Invalid input!" : options.errorMessage());
+		}
+	}
+	
+	/**
+	 * Closes the input stream of this session. The print stream is not closed.
+	 * <p>
+	 * Once this method is invoked, all of the <code>request</code> methods of this session become unusable and throw an <code>IllegalStateException</code>.
+	 * 
+	 * @throws UncheckedIOException if an I/O error occurs
+	 */
+	@Override
+	public void close() {
+		lock.lock();
+		
+		try {
+			isClosed = true;
+			turnReleased.signalAll();
+			linesQueued.signalAll();
+			linesWanted.signal();
+		}
+		finally {
+			lock.unlock();
+		}
+		
+		if (scanner != null) {
+			scanner.close();
+		}
+		else {
+			// The reader thread may be blocked in a read, so the stream is closed directly instead of through the BufferedReader, whose lock that read holds
+			try {
+				in.close();
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package com.github.alexisc183.jforconsol;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A type capable of parsing the string representation of an <code>int</code> number.
+ * <p>
+ * Besides implementing {@link TryParser}, this class provides static methods that parse an <code>int</code> directly from a {@link CharSequence} or from a region of a <code>char</code> or <code>byte</code> array, without creating substrings nor boxing the result. The accepted strings are an optional <code>'+'</code> or <code>'-'</code> sign followed by one or more ASCII digits.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @see LongParser
+ * @since JForconsol 1.1.0
+ */
+public class IntParser implements TryParser<Integer> {
+	/**
+	 * Creates an <code>int</code> parser.
+	 */
+	public IntParser() {
+		
+	}
+	
+	/**
+	 * Parses the given character sequence to convert it to <code>int</code>.
+	 * 
+	 * @param chars the representation of an <code>int</code> number
+	 * @return an <code>int</code> from the converted character sequence
+	 * @throws FormatException if the provided character sequence is not an <code>int</code> number
+	 * @throws NullPointerException if the provided character sequence is <code>null</code>
+	 */
+	public static int parseInt(CharSequence chars) {
+		return parseInt(chars, 0, chars.length());
+	}
+	
+	/**
+	 * Parses a region of the given character sequence to convert it to <code>int</code>.
+	 * 
+	 * @param chars a character sequence that contains the representation of an <code>int</code> number
+	 * @param from the index of the first character of the region
+	 * @param to the index after the last character of the region
+	 * @return an <code>int</code> from the converted region
+	 * @throws FormatException if the region is not an <code>int</code> number
+	 * @throws IndexOutOfBoundsException if the region is out of the bounds of the character sequence
+	 * @throws NullPointerException if the provided character sequence is <code>null</code>
+	 */
+	public static int parseInt(CharSequence chars, int from, int to) {
+		return (int)LongParser.parse(chars, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Parses a region of the given array to convert it to <code>int</code>.
+	 * 
+	 * @param chars an array that contains the representation of an <code>int</code> number
+	 * @param from the index of the first character of the region
+	 * @param to the index after the last character of the region
+	 * @return an <code>int</code> from the converted region
+	 * @throws FormatException if the region is not an <code>int</code> number
+	 * @throws IndexOutOfBoundsException if the region is out of the bounds of the array
+	 * @throws NullPointerException if the provided array is <code>null</code>
+	 */
+	public static int parseInt(char[] chars, int from, int to) {
+		return (int)LongParser.parse(chars, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Parses a region of the given array of ASCII bytes to convert it to <code>int</code>.
+	 * 
+	 * @param bytes an array that contains the representation of an <code>int</code> number
+	 * @param from the index of the first byte of the region
+	 * @param to the index after the last byte of the region
+	 * @return an <code>int</code> from the converted region
+	 * @throws FormatException if the region is not an <code>int</code> number
+	 * @throws IndexOutOfBoundsException if the region is out of the bounds of the array
+	 * @throws NullPointerException if the provided array is <code>null</code>
+	 */
+	public static int parseInt(byte[] bytes, int from, int to) {
+		return (int)LongParser.parse(bytes, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Parses the given string to convert it to <code>Integer</code>.
+	 * 
+	 * @param intString the string representation of an <code>int</code> number
+	 * @return an <code>Integer</code> from the converted string
+	 * @throws FormatException if the provided string is not an <code>int</code> number
+	 * @throws NullPointerException if the provided string is <code>null</code>
+	 */
+	@Override
+	public Integer parse(String intString) {
+		return parseInt(intString);
+	}
+	
+	/**
+	 * Parses the given string to convert it to <code>Integer</code>, if the string is an <code>int</code> number.
+	 * 
+	 * @param intString the string representation of an <code>int</code> number
+	 * @return an <code>Optional</code> with an <code>Integer</code> from the converted string, or an empty <code>Optional</code> if the provided string is not an <code>int</code> number
+	 * @throws NullPointerException if the provided string is <code>null</code>
+	 */
+	@Override
+	public Optional<Integer> tryParse(String intString) {
+		final long MAGNITUDE = LongParser.parseNegatedMagnitude(Objects.requireNonNull(intString), 0, intString.length(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+		
+		return MAGNITUDE == LongParser.INVALID ? Optional.empty() : Optional.of((int)LongParser.applySign(intString, 0, MAGNITUDE));
+	}
+}
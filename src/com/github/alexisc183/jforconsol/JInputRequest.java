@@ -1,8 +1,15 @@
 package com.github.alexisc183.jforconsol;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
+import javax.swing.JDialog;
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
 
 /**
  * Request of an input value to the user with the certainty of said value always being correct.
@@ -10,7 +17,7 @@ import javax.swing.JOptionPane;
  * The purpose of this class is to provide abstraction to operations of requesting input data through for example, a command line interface. Programmers can opt to instantiate this class instead of making the logic of data collection by themselves, in this way reducing significantly the code and preventing undesired input data.
  * 
  * @author AlexisC183
- * @version 1, 2025-05-30
+ * @version 2, 2026-10-18
  * @param <T> the type of the input to request
  * @since JForconsol 1.0.0
  */
@@ -117,26 +124,132 @@ public class JInputRequest<T> {
 				return null;
 			}
 			
-			try {
-				return processInput(input);
-			}
-			catch (Exception e) {
-				System.out.println(errorMessage == null ? "Error!" : errorMessage);
+			final T INSTANCE = processInput(input);
+			
+			if (INSTANCE != InputSession.INVALID_INPUT) {
+				return INSTANCE;
 			}
+			
+			System.out.println(errorMessage == null ? "Error!" : errorMessage);
 		}
 	}
 	
-	private T processInput(String input) throws Exception {
-		if (input == null) {
-			throw new IllegalStateException();
+	/**
+	 * Requests the input by showing a {@link javax.swing.JOptionPane} dialog from the event dispatch thread, so no thread waits while the user enters the input. Unlike the dialog of {@link #request()}, this dialog is not modal.
+	 * <p>
+	 * The returned future is completed from the event dispatch thread. If it is completed by other means, for example by cancelling it or by a timeout, then the dialog is disposed and the input is not requested again.
+	 * 
+	 * @return a future of the <code>T</code> from the converted input, or of <code>null</code> if cancel was pressed according to the <code>isCancellable</code> property
+	 * @see #request()
+	 * @since JForconsol 1.1.0
+	 */
+	public CompletableFuture<T> requestAsync() {
+		final CompletableFuture<T> FUTURE = new CompletableFuture<>();
+		final AtomicReference<JDialog> DIALOG = new AtomicReference<>();
+		
+		SwingUtilities.invokeLater(() -> showInputDialog(FUTURE, DIALOG));
+		FUTURE.whenComplete((instance, e) -> {
+			if (e != null) {
+				// Dialogs are only created on the event dispatch thread, so this either disposes the dialog or runs before it is created
+				SwingUtilities.invokeLater(() -> {
+					if (DIALOG.get() != null) {
+						DIALOG.get().dispose();
+					}
+				});
+			}
+		});
+		
+		return FUTURE;
+	}
+	
+	/**
+	 * Requests the input by showing a {@link javax.swing.JOptionPane} dialog from the event dispatch thread, giving up after the provided timeout.
+	 * 
+	 * @param timeout the maximum time to wait for a valid input
+	 * @return a future of the <code>T</code> from the converted input, of <code>null</code> if cancel was pressed according to the <code>isCancellable</code> property, or completed exceptionally with a {@link java.util.concurrent.TimeoutException} if the timeout elapses first
+	 * @throws NullPointerException if the provided timeout is <code>null</code>
+	 * @see #requestAsync()
+	 * @since JForconsol 1.1.0
+	 */
+	public CompletableFuture<T> requestAsync(Duration timeout) {
+		final long NANOS = timeout.toNanos();
+		
+		return requestAsync().orTimeout(NANOS, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * Shows a dialog that completes the provided future once the user enters a valid input, or shows itself again otherwise. Must be invoked on the event dispatch thread.
+	 * 
+	 * @param future the future of the request
+	 * @param dialog the holder of the dialog that is currently shown, so it can be disposed if the future is completed by other means
+	 */
+	private void showInputDialog(CompletableFuture<T> future, AtomicReference<JDialog> dialog) {
+		if (future.isDone()) {
+			return;
 		}
 		
-		T instance = parseMethod.parse(input);
+		try {
+			final JOptionPane PANE = new JOptionPane(requestMessage, JOptionPane.QUESTION_MESSAGE, JOptionPane.OK_CANCEL_OPTION);
+			
+			PANE.setWantsInput(true);
+			
+			final JDialog DIALOG = PANE.createDialog(null, UIManager.getString("OptionPane.inputDialogTitle"));
+			
+			// The dialog reports its value through this listener instead of blocking in setVisible
+			DIALOG.setModal(false);
+			PANE.addPropertyChangeListener(JOptionPane.VALUE_PROPERTY, event -> {
+				if (event.getNewValue() == JOptionPane.UNINITIALIZED_VALUE) {
+					// The value is reset when the dialog is shown
+					return;
+				}
+				
+				DIALOG.dispose();
+				
+				if (!future.isDone()) {
+					final Object VALUE = PANE.getInputValue();
+					
+					acceptInput(VALUE == JOptionPane.UNINITIALIZED_VALUE ? null : (String)VALUE, future, dialog);
+				}
+			});
+			dialog.set(DIALOG);
+			DIALOG.setVisible(true);
+		}
+		catch (Throwable e) {
+			future.completeExceptionally(e);
+		}
+	}
+	
+	private void acceptInput(String input, CompletableFuture<T> future, AtomicReference<JDialog> dialog) {
+		try {
+			if (isCancellable && input == null) {
+				future.complete(null);
+				return;
+			}
+			
+			final T INSTANCE = processInput(input);
+			
+			if (INSTANCE != InputSession.INVALID_INPUT) {
+				future.complete(INSTANCE);
+				return;
+			}
+			
+			System.out.println(errorMessage == null ? "Error!" : errorMessage);
+		}
+		catch (Throwable e) {
+			future.completeExceptionally(e);
+			return;
+		}
 		
-		if (condition != null && !condition.test(instance)) {
-			throw new IllegalArgumentException();
+		showInputDialog(future, dialog);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private T processInput(String input) {
+		if (input == null) {
+			// Pressing cancel is an invalid input if this request is not cancellable
+			return (T)InputSession.INVALID_INPUT;
 		}
 		
-		return instance;
+		return InputSession.processInput(input, parseMethod, condition);
 	}
 }
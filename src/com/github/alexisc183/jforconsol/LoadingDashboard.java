@@ -0,0 +1,206 @@
+package com.github.alexisc183.jforconsol;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A console display that gives each of several concurrent loading messages its own line.
+ * <p>
+ * Loading messages attached to a dashboard are not displayed on the current line of the "standard" output stream. Instead, the lines of the running ones form a region at the bottom of the console, and on each tick of the thread that displays every loading message, only the lines that changed are redrawn, moving the cursor with ANSI escape sequences and writing the whole frame at once. When a loading message is toggled off, its last line is printed above the region, where it stays, and no line break is printed.
+ * <p>
+ * Since the cursor cannot move above the top of the console, the region shows at most a maximum number of lines, and one more line summarizes the running loading messages that do not fit. While the dashboard has running loading messages, it owns the "standard" output stream: anything else printed on it corrupts the region.
+ * <p>
+ * The console must interpret ANSI escape sequences.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @see LoadingMessage
+ * @since JForconsol 1.1.0
+ */
+public final class LoadingDashboard implements AutoCloseable {
+	private static final String CSI = "\u001B[";
+	private static final String CLEAR_LINE = CSI + "2K";
+	private static final int DEFAULT_MAX_LINES = 20;
+	
+	private final int maxLines;
+	private final LoadingTicker.Animation animation = this::tick;
+	private final Set<LoadingMessage> attached = new LinkedHashSet<>();
+	
+	// Only accessed while holding the lock of the ticker
+	private final List<LoadingMessage> running = new ArrayList<>();
+	private final List<String> drawnLines = new ArrayList<>();
+	private int cursorLine;
+	
+	/**
+	 * Creates a dashboard whose region shows at most 20 lines.
+	 */
+	public LoadingDashboard() {
+		this(DEFAULT_MAX_LINES);
+	}
+	
+	/**
+	 * Creates a dashboard whose region shows at most the provided number of lines.
+	 * 
+	 * @param maxLines the maximum number of lines of the region, which should be less than the height of the console
+	 * @throws IllegalArgumentException if the provided number is less than one
+	 */
+	public LoadingDashboard(int maxLines) {
+		if (maxLines < 1) {
+			throw new IllegalArgumentException("The region must show at least one line");
+		}
+		
+		this.maxLines = maxLines;
+	}
+	
+	/**
+	 * Attaches the provided loading message to this dashboard, so that it is displayed on its own line when it is toggled on.
+	 * 
+	 * @param loadingMessage the loading message to attach
+	 * @throws IllegalStateException if the loading message is running or attached to another dashboard
+	 * @throws NullPointerException if the provided loading message is <code>null</code>
+	 */
+	public synchronized void attach(LoadingMessage loadingMessage) {
+		if (loadingMessage.isRunning()) {
+			throw new IllegalStateException("Running loading messages cannot be attached");
+		}
+		if (loadingMessage.getDashboard() != null && loadingMessage.getDashboard() != this) {
+			throw new IllegalStateException("The loading message is attached to another dashboard");
+		}
+		
+		loadingMessage.setDashboard(this);
+		attached.add(loadingMessage);
+	}
+	
+	/**
+	 * Detaches the provided loading message from this dashboard, so that it is displayed on the current line again.
+	 * 
+	 * @param loadingMessage the loading message to detach
+	 * @throws IllegalStateException if the loading message is running
+	 * @throws NullPointerException if the provided loading message is <code>null</code>
+	 */
+	public synchronized void detach(LoadingMessage loadingMessage) {
+		if (loadingMessage.isRunning() && attached.contains(loadingMessage)) {
+			throw new IllegalStateException("Running loading messages cannot be detached");
+		}
+		if (attached.remove(loadingMessage)) {
+			loadingMessage.setDashboard(null);
+		}
+	}
+	
+	/**
+	 * Toggles off every running loading message of this dashboard and detaches every attached one.
+	 */
+	@Override
+	public synchronized void close() {
+		for (LoadingMessage loadingMessage : attached) {
+			if (loadingMessage.isRunning()) {
+				loadingMessage.toggle();
+			}
+			
+			loadingMessage.setDashboard(null);
+		}
+		
+		attached.clear();
+	}
+	
+	/**
+	 * Adds the provided loading message to the region. It is invoked when the loading message is toggled on.
+	 * 
+	 * @param loadingMessage the loading message that started
+	 */
+	void start(LoadingMessage loadingMessage) {
+		Objects.requireNonNull(loadingMessage);
+		LoadingTicker.update(out -> {
+			if (running.isEmpty()) {
+				LoadingTicker.register(animation, "");
+			}
+			
+			running.add(loadingMessage);
+			redraw(out, System.nanoTime());
+		});
+	}
+	
+	/**
+	 * Removes the provided loading message from the region and prints its last line above it. It is invoked when the loading message is toggled off.
+	 * 
+	 * @param loadingMessage the loading message that stopped
+	 */
+	void stop(LoadingMessage loadingMessage) {
+		LoadingTicker.update(out -> {
+			final long NOW = System.nanoTime();
+			
+			running.remove(loadingMessage);
+			
+			// The last line takes the place of the first line of the region, which then starts one line below
+			moveTo(out, 0);
+			out.append('\r').append(CLEAR_LINE).append(loadingMessage.renderLine(NOW, true)).append(System.lineSeparator());
+			
+			if (!drawnLines.isEmpty()) {
+				drawnLines.remove(0);
+			}
+			
+			cursorLine = 0;
+			redraw(out, NOW);
+			
+			if (running.isEmpty()) {
+				LoadingTicker.unregister(animation, "");
+			}
+		});
+	}
+	
+	private void tick(StringBuilder out, long nanoTime) {
+		redraw(out, nanoTime);
+	}
+	
+	private void redraw(StringBuilder out, long nanoTime) {
+		final List<String> LINES = new ArrayList<>(Math.min(running.size(), maxLines + 1));
+		final int SHOWN = running.size() > maxLines ? maxLines - 1 : running.size();
+		
+		for (int i = 0; i < SHOWN; i++) {
+			LINES.add(running.get(i).renderLine(nanoTime, false));
+		}
+		
+		if (SHOWN < running.size()) {
+			LINES.add("... and " + (running.size() - SHOWN) + " more");
+		}
+		
+		for (int i = 0; i < LINES.size(); i++) {
+			if (i >= drawnLines.size()) {
+				// New lines are printed below the region, which scrolls the console if necessary
+				moveTo(out, drawnLines.size());
+				out.append('\r').append(LINES.get(i)).append(System.lineSeparator());
+				drawnLines.add(LINES.get(i));
+				cursorLine = drawnLines.size();
+			}
+			else if (!LINES.get(i).equals(drawnLines.get(i))) {
+				moveTo(out, i);
+				out.append('\r').append(CLEAR_LINE).append(LINES.get(i));
+				drawnLines.set(i, LINES.get(i));
+			}
+		}
+		
+		while (drawnLines.size() > LINES.size()) {
+			moveTo(out, drawnLines.size() - 1);
+			out.append('\r').append(CLEAR_LINE);
+			drawnLines.remove(drawnLines.size() - 1);
+		}
+		
+		// The cursor rests at the start of the line below the region, where other output would continue
+		moveTo(out, drawnLines.size());
+		out.append('\r');
+	}
+	
+	private void moveTo(StringBuilder out, int line) {
+		if (line < cursorLine) {
+			out.append(CSI).append(cursorLine - line).append('A');
+		}
+		else if (line > cursorLine) {
+			out.append(CSI).append(line - cursorLine).append('B');
+		}
+		
+		cursorLine = line;
+	}
+}
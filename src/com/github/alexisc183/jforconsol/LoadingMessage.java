@@ -1,14 +1,19 @@
 package com.github.alexisc183.jforconsol;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 /**
  * An animated loading message thought to be used for operations that take time to be completed.
  * <p>
- * This class uses a new <code>Thread</code> in order to display on the "standard" output stream an animation.
+ * The animations of every instance are displayed on the "standard" output stream by a single daemon thread shared by the whole library. On each of its ticks, the frames of all the running animations that changed are written at once.
+ * <p>
+ * Instead of an animation, a loading message can report the progress of a job, as the percentage of completed items, the number of items completed per second and the estimated time left. The number of completed items is read from a {@link LongSupplier}, typically the <code>sum</code> method of a {@link java.util.concurrent.atomic.LongAdder} or the <code>get</code> method of an {@link java.util.concurrent.atomic.AtomicLong} that the workers increment. The ticker only reads it once per refresh, so workers are never blocked nor slowed down by the report.
  * 
  * @author AlexisC183
- * @version 1, 2025-05-30
+ * @version 2, 2026-10-18
  * @since JForconsol 1.0.0
  */
 public class LoadingMessage {
@@ -32,16 +37,38 @@ public class LoadingMessage {
 		ROTARY_LINE
 	}
 	
+	private static final long FRAME_NANOS = TimeUnit.SECONDS.toNanos(1);
+	private static final String[] ROTARY_LINE_FRAMES = { "\u2500", "\\", "|", "/" };
+	private static final String[] LINES_FRAMES = { "___", "-__", "_-_", "__-" };
+	private static final String[] PERIODS_FRAMES = { "   ", ".  ", ".. ", "..." };
+	private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(1);
+	
+	private record Progress(LongSupplier completed, long total) {
+		
+	}
+	
 	private String message;
 	private LoadingStyle loadingStyle;
-	private Thread thread;
-	private boolean isRunning;
+	private volatile boolean isRunning;
+	private volatile Progress progress;
+	private volatile Duration refreshInterval;
+	
+	private final LoadingTicker.Animation animation = this::tick;
+	private volatile LoadingDashboard dashboard;
+	
+	// Only accessed by the ticker, or before the animation is registered
+	private String[] frames;
+	private String prefix;
+	private long startTime;
+	private String lastText;
+	private long nextRefreshTime;
 	
 	/**
 	 * Creates a loading message.
 	 */
 	public LoadingMessage() {
 		loadingStyle = LoadingStyle.PERIODS;
+		refreshInterval = DEFAULT_REFRESH_INTERVAL;
 	}
 	
 	/**
@@ -82,76 +109,57 @@ public class LoadingMessage {
 	}
 	
 	/**
-	 * Checks whether the asynchronous animation produced by the <code>toggle()</code> method of this instance is on or not.
+	 * Sets the source of the progress reported by this loading message instead of its animation.
+	 * <p>
+	 * The supplier is invoked by the thread that displays every loading message, once per refresh interval, so it must be thread-safe and it should be as cheap as reading a counter. If it throws an exception, the previous report is kept until the next refresh. If the total is zero, then the number of completed items and the items per second are reported without a percentage nor an estimated time left. If <code>null</code> is passed as the supplier, then the animation is displayed again.
 	 * 
-	 * @return <code>true</code> if the asynchronous animation produced by the <code>toggle()</code> method of this instance is on; <code>false</code> otherwise.
-	 * @see #toggle()
+	 * @param completed the supplier of the number of completed items
+	 * @param total the number of items of the job, or zero if it is unknown
+	 * @throws IllegalArgumentException if the provided total is negative
+	 * @since JForconsol 1.1.0
 	 */
-	public boolean isRunning() {
-		return isRunning;
+	public void setProgress(LongSupplier completed, long total) {
+		if (total < 0) {
+			throw new IllegalArgumentException("The total cannot be negative");
+		}
+		
+		progress = completed == null ? null : new Progress(completed, total);
 	}
 	
-	private void rotaryLineAction() {
-		if (message != null) {
-			System.out.print(' ');
-		}
-		System.out.print('\u2500');
-		while (!Thread.interrupted()) {
-			try {
-				Thread.sleep(1000);
-				System.out.print("\b\\");
-				Thread.sleep(1000);
-				System.out.print("\b|");
-				Thread.sleep(1000);
-				System.out.print("\b/");
-				Thread.sleep(1000);
-				System.out.print("\b" + '\u2500');
-			}
-			catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-			}
-		}
+	/**
+	 * Returns the <code>refreshInterval</code> property of this loading message.
+	 * 
+	 * @return the time between two refreshes of the reported progress
+	 * @since JForconsol 1.1.0
+	 */
+	public Duration getRefreshInterval() {
+		return refreshInterval;
 	}
 	
-	private void linesAction() {
-		if (message != null) {
-			System.out.print(' ');
-		}
-		System.out.print("___");
-		while (!Thread.interrupted()) {
-			try {
-				Thread.sleep(1000);
-				System.out.print("\b\b\b-__");
-				Thread.sleep(1000);
-				System.out.print("\b\b\b_-_");
-				Thread.sleep(1000);
-				System.out.print("\b\b_-");
-				Thread.sleep(1000);
-				System.out.print("\b_");
-			}
-			catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-			}
+	/**
+	 * Sets the <code>refreshInterval</code> property, which is the time between two refreshes of the reported progress. The interval is rounded up to a multiple of 100 milliseconds, which is the period of the thread that displays every loading message. The default value is one second.
+	 * 
+	 * @param refreshInterval the time between two refreshes of the reported progress
+	 * @throws IllegalArgumentException if the provided interval is not positive
+	 * @throws NullPointerException if the provided interval is <code>null</code>
+	 * @since JForconsol 1.1.0
+	 */
+	public void setRefreshInterval(Duration refreshInterval) {
+		if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+			throw new IllegalArgumentException("The refresh interval must be positive");
 		}
+		
+		this.refreshInterval = refreshInterval;
 	}
 	
-	private void periodsAction() {
-		System.out.print("   ");
-		while (!Thread.interrupted()) {
-			try {
-				Thread.sleep(1000);
-				System.out.print("\b\b\b.  ");
-				Thread.sleep(1000);
-				System.out.print("\b\b. ");
-				Thread.sleep(1000);
-				System.out.print("\b.");
-				Thread.sleep(1000);
-				System.out.print("\b\b\b   ");
-			}
-			catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-			}
-		}
+	/**
+	 * Checks whether the asynchronous animation produced by the <code>toggle()</code> method of this instance is on or not.
+	 * 
+	 * @return <code>true</code> if the asynchronous animation produced by the <code>toggle()</code> method of this instance is on; <code>false</code> otherwise.
+	 * @see #toggle()
+	 */
+	public boolean isRunning() {
+		return isRunning;
 	}
 	
 	/**
@@ -160,13 +168,21 @@ public class LoadingMessage {
 	 * If <code>isRunning</code> is <code>false</code>, then this method prints the <code>message</code> object of this instance and starts an asynchronous animation.
 	 * <p>
 	 * If <code>isRunning</code> is <code>true</code>, then this method stops the asynchronous animation of this instance.
+	 * <p>
+	 * If this loading message is attached to a {@link LoadingDashboard}, then it is displayed on its own line of the dashboard instead of the current line, and no line break is printed when it stops.
 	 * 
 	 * @see #isRunning()
 	 */
 	public void toggle() {
 		if (isRunning) {
-			thread.interrupt();
-			System.out.println();
+			final LoadingDashboard DASHBOARD = dashboard;
+			
+			if (DASHBOARD == null) {
+				LoadingTicker.unregister(animation, System.lineSeparator());
+			}
+			else {
+				DASHBOARD.stop(this);
+			}
 			
 			isRunning = false;
 		}
@@ -178,18 +194,148 @@ public class LoadingMessage {
 	}
 	
 	private void start() {
-		if (message != null) {
-			System.out.print(message);
+		frames = switch (loadingStyle) {
+			case ROTARY_LINE -> ROTARY_LINE_FRAMES;
+			case LINES -> LINES_FRAMES;
+			default -> PERIODS_FRAMES;
+		};
+		startTime = System.nanoTime();
+		nextRefreshTime = startTime;
+		// Progress that cannot be read yet is reported as an empty string
+		lastText = "";
+		lastText = render(startTime);
+		
+		// The periods are the only style that is not separated from the message
+		prefix = message == null ? "" : message + (frames != PERIODS_FRAMES || progress != null ? " " : "");
+		
+		final LoadingDashboard DASHBOARD = dashboard;
+		
+		if (DASHBOARD == null) {
+			LoadingTicker.register(animation, prefix + lastText);
+		}
+		else {
+			DASHBOARD.start(this);
 		}
+	}
+	
+	/**
+	 * Sets the dashboard that displays this loading message, or <code>null</code> to display it on the current line of the "standard" output stream.
+	 * 
+	 * @param dashboard the dashboard of this loading message
+	 */
+	void setDashboard(LoadingDashboard dashboard) {
+		this.dashboard = dashboard;
+	}
+	
+	/**
+	 * Returns the dashboard that displays this loading message.
+	 * 
+	 * @return the dashboard of this loading message, or <code>null</code> if it is displayed on the current line
+	 */
+	LoadingDashboard getDashboard() {
+		return dashboard;
+	}
+	
+	/**
+	 * Returns the whole line of this loading message at the provided time, which is its message followed by the current frame of its animation or its progress. It must be invoked while holding the lock of the ticker.
+	 * 
+	 * @param nanoTime the value of <code>System.nanoTime()</code> at the current tick
+	 * @param isFinal If <code>true</code>, the progress is refreshed even if the refresh interval has not elapsed.
+	 * @return the line of this loading message
+	 */
+	String renderLine(long nanoTime, boolean isFinal) {
+		if (isFinal) {
+			nextRefreshTime = nanoTime;
+		}
+		
+		lastText = render(nanoTime);
+		return prefix + lastText;
+	}
+	
+	private void tick(StringBuilder out, long nanoTime) {
+		final String TEXT = render(nanoTime);
+		
+		if (!TEXT.equals(lastText)) {
+			// The new text overwrites the previous one with backspaces, and blanks whatever it does not cover
+			final int EXCESS = Math.max(0, lastText.length() - TEXT.length());
+			
+			out.repeat('\b', lastText.length()).append(TEXT).repeat(' ', EXCESS).repeat('\b', EXCESS);
+			lastText = TEXT;
+		}
+	}
+	
+	private String render(long nanoTime) {
+		final Progress PROGRESS = progress;
+		
+		if (PROGRESS == null) {
+			return frames[(int)((nanoTime - startTime) / FRAME_NANOS % frames.length)];
+		}
+		if (nanoTime - nextRefreshTime < 0) {
+			return lastText;
+		}
+		
+		nextRefreshTime = nanoTime + refreshInterval.toNanos();
 		
-		thread = new Thread(
-			switch (loadingStyle) {
-				case ROTARY_LINE -> this::rotaryLineAction;
-				case LINES -> this::linesAction;
-				default -> this::periodsAction;
+		try {
+			return renderProgress(PROGRESS.completed().getAsLong(), PROGRESS.total(), nanoTime - startTime);
+		}
+		catch (RuntimeException e) {
+			return lastText;
+		}
+	}
+	
+	private static String renderProgress(long completed, long total, long elapsedNanos) {
+		final double SECONDS = elapsedNanos / 1e9;
+		final double ITEMS_PER_SECOND = SECONDS > 0 ? completed / SECONDS : 0;
+		final StringBuilder TEXT = new StringBuilder();
+		
+		if (total > 0) {
+			TEXT.append(Math.min(100, (long)(100.0 * completed / total))).append("% ");
+		}
+		
+		TEXT.append(completed);
+		
+		if (total > 0) {
+			TEXT.append('/').append(total);
+		}
+		
+		TEXT.append(", ").append(Math.round(ITEMS_PER_SECOND)).append("/s");
+		
+		if (total > 0) {
+			TEXT.append(", ETA ");
+			
+			if (completed >= total) {
+				appendTime(TEXT, 0);
+			}
+			else if (ITEMS_PER_SECOND > 0) {
+				appendTime(TEXT, (long)Math.ceil((total - completed) / ITEMS_PER_SECOND));
 			}
-		);
+			else {
+				TEXT.append("--:--");
+			}
+		}
+		
+		return TEXT.toString();
+	}
+	
+	private static void appendTime(StringBuilder text, long seconds) {
+		if (seconds >= 3600) {
+			text.append(seconds / 3600).append(':');
+			appendTwoDigits(text, seconds / 60 % 60);
+		}
+		else {
+			text.append(seconds / 60);
+		}
+		
+		text.append(':');
+		appendTwoDigits(text, seconds % 60);
+	}
+	
+	private static void appendTwoDigits(StringBuilder text, long value) {
+		if (value < 10) {
+			text.append('0');
+		}
 		
-		thread.start();
+		text.append(value);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.github.alexisc183.jforconsol;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * The single scheduler that drives every active animation of this package.
+ * <p>
+ * A daemon thread ticks every <code>TICK_MILLIS</code> milliseconds while at least one animation is registered. On each tick, every animation appends its pending output to a shared buffer, and the whole buffer is written to the "standard" output stream at once. Animations are registered, unregistered and ticked while holding the lock of this class, so their output is never interleaved.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @since JForconsol 1.1.0
+ */
+final class LoadingTicker {
+	/**
+	 * An animation driven by the ticker.
+	 */
+	interface Animation {
+		/**
+		 * Appends the output that this animation has pending at the provided time, if any.
+		 * 
+		 * @param out the buffer of the current tick
+		 * @param nanoTime the value of <code>System.nanoTime()</code> at the current tick
+		 */
+		void tick(StringBuilder out, long nanoTime);
+	}
+	
+	/**
+	 * The period of the ticks, which is the finest resolution of every animation.
+	 */
+	static final long TICK_MILLIS = 100;
+	
+	private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		final Thread THREAD = new Thread(runnable, "LoadingTicker");
+		
+		THREAD.setDaemon(true);
+		return THREAD;
+	});
+	private static final Set<Animation> ANIMATIONS = new LinkedHashSet<>();
+	private static final StringBuilder BUFFER = new StringBuilder();
+	private static ScheduledFuture<?> ticks;
+	
+	private LoadingTicker() {
+		
+	}
+	
+	/**
+	 * Prints the provided output and registers the provided animation, which is ticked from then on.
+	 * 
+	 * @param animation the animation to register
+	 * @param output the string to print before the first tick of the animation
+	 */
+	static synchronized void register(Animation animation, String output) {
+		System.out.print(output);
+		ANIMATIONS.add(animation);
+		
+		if (ticks == null) {
+			ticks = EXECUTOR.scheduleAtFixedRate(LoadingTicker::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+		}
+	}
+	
+	/**
+	 * Unregisters the provided animation and prints the provided output, so nothing of the animation is printed after it.
+	 * 
+	 * @param animation the animation to unregister
+	 * @param output the string to print once the animation is unregistered
+	 */
+	static synchronized void unregister(Animation animation, String output) {
+		ANIMATIONS.remove(animation);
+		System.out.print(output);
+		
+		if (ANIMATIONS.isEmpty() && ticks != null) {
+			// The thread stays idle instead of waking up with nothing to animate
+			ticks.cancel(false);
+			ticks = null;
+		}
+	}
+	
+	/**
+	 * Runs the provided action while holding the lock of this class, and then writes whatever the action appended to the provided buffer at once.
+	 * 
+	 * @param action the action that appends its output to the buffer
+	 */
+	static synchronized void update(Consumer<StringBuilder> action) {
+		action.accept(BUFFER);
+		writeBuffer();
+	}
+	
+	private static synchronized void tick() {
+		final long NOW = System.nanoTime();
+		
+		for (Iterator<Animation> iterator = ANIMATIONS.iterator(); iterator.hasNext();) {
+			try {
+				iterator.next().tick(BUFFER, NOW);
+			}
+			catch (RuntimeException e) {
+				// An exception would cancel every following tick, so only the failing animation is dropped
+				iterator.remove();
+			}
+		}
+		
+		writeBuffer();
+	}
+	
+	private static void writeBuffer() {
+		if (!BUFFER.isEmpty()) {
+			System.out.print(BUFFER);
+			System.out.flush();
+			BUFFER.setLength(0);
+		}
+	}
+}
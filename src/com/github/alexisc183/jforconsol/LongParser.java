@@ -0,0 +1,191 @@
+package com.github.alexisc183.jforconsol;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A type capable of parsing the string representation of a <code>long</code> number.
+ * <p>
+ * Besides implementing {@link TryParser}, this class provides static methods that parse a <code>long</code> directly from a {@link CharSequence} or from a region of a <code>char</code> or <code>byte</code> array, without creating substrings nor boxing the result. The accepted strings are an optional <code>'+'</code> or <code>'-'</code> sign followed by one or more ASCII digits.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @see IntParser
+ * @since JForconsol 1.1.0
+ */
+public class LongParser implements TryParser<Long> {
+	// Magnitudes are accumulated as non-positive numbers, so a positive result marks an invalid region
+	static final long INVALID = 1;
+	
+	/**
+	 * Creates a <code>long</code> parser.
+	 */
+	public LongParser() {
+		
+	}
+	
+	/**
+	 * Parses the given character sequence to convert it to <code>long</code>.
+	 * 
+	 * @param chars the representation of a <code>long</code> number
+	 * @return a <code>long</code> from the converted character sequence
+	 * @throws FormatException if the provided character sequence is not a <code>long</code> number
+	 * @throws NullPointerException if the provided character sequence is <code>null</code>
+	 */
+	public static long parseLong(CharSequence chars) {
+		return parseLong(chars, 0, chars.length());
+	}
+	
+	/**
+	 * Parses a region of the given character sequence to convert it to <code>long</code>.
+	 * 
+	 * @param chars a character sequence that contains the representation of a <code>long</code> number
+	 * @param from the index of the first character of the region
+	 * @param to the index after the last character of the region
+	 * @return a <code>long</code> from the converted region
+	 * @throws FormatException if the region is not a <code>long</code> number
+	 * @throws IndexOutOfBoundsException if the region is out of the bounds of the character sequence
+	 * @throws NullPointerException if the provided character sequence is <code>null</code>
+	 */
+	public static long parseLong(CharSequence chars, int from, int to) {
+		return parse(chars, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+	
+	/**
+	 * Parses a region of the given array to convert it to <code>long</code>.
+	 * 
+	 * @param chars an array that contains the representation of a <code>long</code> number
+	 * @param from the index of the first character of the region
+	 * @param to the index after the last character of the region
+	 * @return a <code>long</code> from the converted region
+	 * @throws FormatException if the region is not a <code>long</code> number
+	 * @throws IndexOutOfBoundsException if the region is out of the bounds of the array
+	 * @throws NullPointerException if the provided array is <code>null</code>
+	 */
+	public static long parseLong(char[] chars, int from, int to) {
+		return parse(chars, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+	
+	/**
+	 * Parses a region of the given array of ASCII bytes to convert it to <code>long</code>.
+	 * 
+	 * @param bytes an array that contains the representation of a <code>long</code> number
+	 * @param from the index of the first byte of the region
+	 * @param to the index after the last byte of the region
+	 * @return a <code>long</code> from the converted region
+	 * @throws FormatException if the region is not a <code>long</code> number
+	 * @throws IndexOutOfBoundsException if the region is out of the bounds of the array
+	 * @throws NullPointerException if the provided array is <code>null</code>
+	 */
+	public static long parseLong(byte[] bytes, int from, int to) {
+		return parse(bytes, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+	
+	/**
+	 * Parses a region of the provided input as an integer between the provided bounds.
+	 * 
+	 * @param input a character sequence, <code>char</code> array or <code>byte</code> array that contains the representation of an integer
+	 * @param from the index of the first character of the region
+	 * @param to the index after the last character of the region
+	 * @param min the least valid integer, which must not be positive
+	 * @param max the greatest valid integer, which must not be negative
+	 * @return the converted integer
+	 * @throws FormatException if the region is not a valid integer
+	 */
+	static long parse(Object input, int from, int to, long min, long max) {
+		final long MAGNITUDE = parseNegatedMagnitude(input, from, to, min, max);
+		
+		if (MAGNITUDE == INVALID) {
+			throw new FormatException("Passed string is not an integer within range");
+		}
+		
+		return applySign(input, from, MAGNITUDE);
+	}
+	
+	/**
+	 * Parses a region of the provided input as an integer between the provided bounds without throwing an exception if it is not valid.
+	 * <p>
+	 * The magnitude of the integer is returned negated, which leaves room for the magnitude of <code>Long.MIN_VALUE</code> and never equals {@link #INVALID}. The {@link #applySign(Object, int, long)} method converts it to the integer.
+	 * 
+	 * @param input a character sequence, <code>char</code> array or <code>byte</code> array that contains the representation of an integer
+	 * @param from the index of the first character of the region
+	 * @param to the index after the last character of the region
+	 * @param min the least valid integer, which must not be positive
+	 * @param max the greatest valid integer, which must not be negative
+	 * @return the negated magnitude of the integer, or <code>INVALID</code> if the region is not a valid integer
+	 */
+	static long parseNegatedMagnitude(Object input, int from, int to, long min, long max) {
+		Objects.checkFromToIndex(from, to, ParserInput.length(input));
+		
+		int i = from;
+		final boolean IS_NEGATIVE = i < to && ParserInput.charAt(input, i) == '-';
+		
+		if (i < to && (IS_NEGATIVE || ParserInput.charAt(input, i) == '+')) {
+			i++;
+		}
+		if (i == to) {
+			return INVALID;
+		}
+		
+		final long LIMIT = IS_NEGATIVE ? min : -max;
+		final long MULTIPLICATION_LIMIT = LIMIT / 10;
+		long result = 0;
+		
+		for (; i < to; i++) {
+			final int DIGIT = ParserInput.charAt(input, i) - '0';
+			
+			if (DIGIT < 0 || DIGIT > 9 || result < MULTIPLICATION_LIMIT) {
+				return INVALID;
+			}
+			
+			result *= 10;
+			
+			if (result < LIMIT + DIGIT) {
+				return INVALID;
+			}
+			
+			result -= DIGIT;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Converts the negated magnitude of an integer to the integer, according to the sign of its region.
+	 * 
+	 * @param input the input that contains the representation of the integer
+	 * @param from the index of the first character of the region
+	 * @param negatedMagnitude the result of <code>parseNegatedMagnitude</code> for the region, which must not be <code>INVALID</code>
+	 * @return the integer
+	 */
+	static long applySign(Object input, int from, long negatedMagnitude) {
+		return ParserInput.charAt(input, from) == '-' ? negatedMagnitude : -negatedMagnitude;
+	}
+	
+	/**
+	 * Parses the given string to convert it to <code>Long</code>.
+	 * 
+	 * @param longString the string representation of a <code>long</code> number
+	 * @return a <code>Long</code> from the converted string
+	 * @throws FormatException if the provided string is not a <code>long</code> number
+	 * @throws NullPointerException if the provided string is <code>null</code>
+	 */
+	@Override
+	public Long parse(String longString) {
+		return parseLong(longString);
+	}
+	
+	/**
+	 * Parses the given string to convert it to <code>Long</code>, if the string is a <code>long</code> number.
+	 * 
+	 * @param longString the string representation of a <code>long</code> number
+	 * @return an <code>Optional</code> with a <code>Long</code> from the converted string, or an empty <code>Optional</code> if the provided string is not a <code>long</code> number
+	 * @throws NullPointerException if the provided string is <code>null</code>
+	 */
+	@Override
+	public Optional<Long> tryParse(String longString) {
+		final long MAGNITUDE = parseNegatedMagnitude(Objects.requireNonNull(longString), 0, longString.length(), Long.MIN_VALUE, Long.MAX_VALUE);
+		
+		return MAGNITUDE == INVALID ? Optional.empty() : Optional.of(applySign(longString, 0, MAGNITUDE));
+	}
+}
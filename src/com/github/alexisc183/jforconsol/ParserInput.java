@@ -0,0 +1,82 @@
+package com.github.alexisc183.jforconsol;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Static access to the inputs of the number parsers of this package, which are character sequences, <code>char</code> arrays or arrays of ASCII bytes.
+ * <p>
+ * Arrays are read directly instead of being wrapped in {@link CharSequence} views, so parsing them allocates nothing, and the parsing loops keep a single call site for every kind of input. Strings, the most common input, are checked first.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @since JForconsol 1.1.0
+ */
+final class ParserInput {
+	private ParserInput() {
+		
+	}
+	
+	/**
+	 * Returns the number of characters of the provided input.
+	 * 
+	 * @param input a character sequence, a <code>char</code> array or a <code>byte</code> array
+	 * @return the length of the input
+	 * @throws NullPointerException if the provided input is <code>null</code>
+	 */
+	static int length(Object input) {
+		if (input instanceof String string) {
+			return string.length();
+		}
+		if (input instanceof char[] chars) {
+			return chars.length;
+		}
+		if (input instanceof byte[] bytes) {
+			return bytes.length;
+		}
+		
+		return ((CharSequence)input).length();
+	}
+	
+	/**
+	 * Returns the character at the provided index of the provided input. Bytes are read as ISO-8859-1 characters.
+	 * 
+	 * @param input a character sequence, a <code>char</code> array or a <code>byte</code> array
+	 * @param index the index of the character
+	 * @return the character at the index
+	 */
+	static char charAt(Object input, int index) {
+		if (input instanceof String string) {
+			return string.charAt(index);
+		}
+		if (input instanceof char[] chars) {
+			return chars[index];
+		}
+		if (input instanceof byte[] bytes) {
+			return (char)(bytes[index] & 0xFF);
+		}
+		
+		return ((CharSequence)input).charAt(index);
+	}
+	
+	/**
+	 * Copies a region of the provided input to a string.
+	 * 
+	 * @param input a character sequence, a <code>char</code> array or a <code>byte</code> array
+	 * @param from the index of the first character of the region
+	 * @param to the index after the last character of the region
+	 * @return the characters of the region
+	 */
+	static String toString(Object input, int from, int to) {
+		if (input instanceof String string) {
+			return string.substring(from, to);
+		}
+		if (input instanceof char[] chars) {
+			return new String(chars, from, to - from);
+		}
+		if (input instanceof byte[] bytes) {
+			return new String(bytes, from, to - from, StandardCharsets.ISO_8859_1);
+		}
+		
+		return ((CharSequence)input).subSequence(from, to).toString();
+	}
+}
@@ -0,0 +1,85 @@
+package com.github.alexisc183.jforconsol;
+
+import java.util.Arrays;
+
+/**
+ * Counting of prime numbers without enumerating them.
+ * <p>
+ * Counts beyond the frontier of the shared {@link PrimeTable} are computed with a Legendre-style recurrence over the values <code>x / i</code>, as in the Meissel-Lehmer family of methods, which takes <i>O</i>(<i>x</i><sup>3/4</sup>) time and <i>O</i>(<i>x</i><sup>1/2</sup>) space.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @since JForconsol 1.1.0
+ */
+final class PrimeCounter {
+	// The arrays of the count have ROOT + 1 elements, and VMs cannot allocate arrays much longer than Integer.MAX_VALUE - 8
+	private static final long MAX_ROOT = Integer.MAX_VALUE - 9;
+	
+	private PrimeCounter() {
+		
+	}
+	
+	/**
+	 * Counts the prime numbers that are not greater than the provided number.
+	 * 
+	 * @param x the inclusive upper bound of the counted prime numbers
+	 * @return the number of prime numbers up to <code>x</code>
+	 * @throws UnsupportedOperationException if the square root of <code>x</code> is too large to index the arrays of the count
+	 */
+	static long countUpTo(long x) {
+		if (x < 2) {
+			return 0;
+		}
+		
+		final PrimeTable.Snapshot SNAPSHOT = PrimeTable.snapshot();
+		
+		if (x <= SNAPSHOT.limit()) {
+			final int INDEX = Arrays.binarySearch(SNAPSHOT.oddPrimes(), (int)x);
+			
+			// One more for the prime number two
+			return 1 + (INDEX >= 0 ? INDEX + 1 : -INDEX - 1);
+		}
+		
+		return legendreCount(x);
+	}
+	
+	private static long legendreCount(long x) {
+		final long LONG_ROOT = PrimeSieve.isqrt(x);
+		
+		if (LONG_ROOT > MAX_ROOT) {
+			throw new UnsupportedOperationException("Counting the prime numbers up to " + x + " needs arrays longer than the maximum array length");
+		}
+		
+		final int ROOT = (int)LONG_ROOT;
+		// SMALL[v] ends up holding the count up to v, and LARGE[i] the count up to x / i
+		final long[] SMALL = new long[ROOT + 1];
+		final long[] LARGE = new long[ROOT + 1];
+		
+		for (int v = 1; v <= ROOT; v++) {
+			SMALL[v] = v - 1;
+			LARGE[v] = x / v - 1;
+		}
+		
+		for (int p = 2; p <= ROOT; p++) {
+			if (SMALL[p] == SMALL[p - 1]) {
+				// Not a prime number
+				continue;
+			}
+			
+			final long PRIMES_BELOW = SMALL[p - 1];
+			final long SQUARE = (long)p * p;
+			final long LARGE_END = Math.min(ROOT, x / SQUARE);
+			
+			for (int i = 1; i <= LARGE_END; i++) {
+				final long D = (long)i * p;
+				
+				LARGE[i] -= (D <= ROOT ? LARGE[(int)D] : SMALL[(int)(x / D)]) - PRIMES_BELOW;
+			}
+			for (int v = ROOT; v >= SQUARE; v--) {
+				SMALL[v] -= SMALL[v / p] - PRIMES_BELOW;
+			}
+		}
+		
+		return LARGE[1];
+	}
+}
@@ -1,52 +1,491 @@
 package com.github.alexisc183.jforconsol;
 
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
 /**
  * A prime number generator.
+ * <p>
+ * Prime numbers are produced by a segmented sieve of Eratosthenes that keeps only odd numbers, one bit each, in cache-sized segments. Each invocation of the <code>next</code> method therefore costs amortized <i>O</i>(log log <i>n</i>) instead of testing the divisibility of every candidate.
+ * <p>
+ * The generator covers the whole <code>long</code> range through the <code>nextLong</code> method, while single numbers can be tested without generating any prime number through the {@link #isPrime(long)} method.
  * 
  * @author AlexisC183
- * @version 1, 2025-05-30
+ * @version 2, 2026-10-18
  * @since JForconsol 1.0.0
  */
 public class PrimeNumber {
-	private int incrementableNumber;
+	private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL;
+	private static final long PARALLEL_SPAN = 16 * PrimeSieve.SEGMENT_SPAN;
+	private static final int[] SMALL_PRIMES = { 2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 53, 59, 61 };
+	private static final long[] MILLER_RABIN_BASES = { 2, 325, 9375, 28178, 450775, 9780504, 1795265022 };
+	private static final long ITERATIVE_SKIP_LIMIT = 1 << 12;
+	// The number of prime numbers up to Long.MAX_VALUE
+	private static final long MAX_POSITION = 216_289_611_853_439_384L;
+	
+	private PrimeSieve sieve;
 	
 	/**
 	 * Creates an instance ready to compute prime numbers.
 	 */
 	public PrimeNumber() {
-		incrementableNumber = 1;
+	
 	}
 	
 	/**
 	 * Uses the last prime number computed with this instance to return the next prime number.
 	 * 
 	 * @return the next prime number of this instance or two (2) if this method is invoked for the first time
+	 * @throws ArithmeticException if the next prime number is greater than <code>Integer.MAX_VALUE</code>. In that case this instance does not advance, so the <code>nextLong</code> method can still return said prime number.
 	 */
 	public int next() {
-		byte exactDivisions;
-		int divisor;
+		final long PRIME = sieve().peek();
+		
+		if (PRIME > Integer.MAX_VALUE) {
+			throw new ArithmeticException("The next prime number overflows an int");
+		}
+		
+		sieve.consume();
+		return (int)PRIME;
+	}
+	
+	/**
+	 * Uses the last prime number computed with this instance to return the next prime number as a <code>long</code>.
+	 * <p>
+	 * This method shares its state with the <code>next</code> method, so both can be invoked on the same instance.
+	 * 
+	 * @return the next prime number of this instance or two (2) if this method is invoked for the first time
+	 * @throws ArithmeticException if there is no greater prime number representable as a <code>long</code>
+	 * @since JForconsol 1.1.0
+	 */
+	public long nextLong() {
+		final long PRIME = sieve().peek();
+		
+		if (PRIME == Long.MAX_VALUE) {
+			throw new ArithmeticException("The next prime number overflows a long");
+		}
+		
+		sieve.consume();
+		return PRIME;
+	}
+	
+	private PrimeSieve sieve() {
+		if (sieve == null) {
+			sieve = new PrimeSieve(2);
+		}
+		
+		return sieve;
+	}
+	
+	/**
+	 * Resets this instance to its initial state.
+	 */
+	public void reset() {
+		if (sieve != null) {
+			sieve.seek(2);
+		}
+	}
+	
+	/**
+	 * Discards the next prime numbers of this instance, as if the <code>nextLong</code> method were invoked the provided amount of times.
+	 * <p>
+	 * Except for short distances, this method does not iterate over the skipped prime numbers: it counts the prime numbers below the current position and then seeks the target with the {@link #nth(long)} method.
+	 * 
+	 * @param n the amount of prime numbers to skip
+	 * @throws IllegalArgumentException if the provided amount is negative
+	 * @throws ArithmeticException if there are not enough prime numbers representable as a <code>long</code> to skip
+	 * @throws UnsupportedOperationException if the target is beyond the range supported by the <code>nth</code> method
+	 * @throws OutOfMemoryError if the count of the prime numbers below the target does not fit in memory, as described in the <code>nth</code> method
+	 * @since JForconsol 1.1.0
+	 */
+	public void skip(long n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("The amount of prime numbers to skip cannot be negative");
+		}
+		
+		if (n <= ITERATIVE_SKIP_LIMIT) {
+			for (long i = 0; i < n; i++) {
+				nextLong();
+			}
+		}
+		else {
+			final long NEXT = sieve().peek();
+			
+			if (NEXT == Long.MAX_VALUE) {
+				throw new ArithmeticException("The next prime number overflows a long");
+			}
+			
+			sieve.seek(nth(Math.addExact(PrimeCounter.countUpTo(NEXT), n)));
+		}
+	}
+	
+	/**
+	 * Returns the n-th prime number, where the first one is two (2).
+	 * <p>
+	 * The prime number is not found by iterating from two, but by counting the prime numbers below a lower bound of the result and then sieving the small window between that bound and the result. The count takes <i>O</i>(<i>p</i><sup>3/4</sup>) time, where <i>p</i> is the returned prime number.
+	 * <p>
+	 * The count also takes two arrays of about 8&radic;<i>p</i> bytes each, so its memory, not the <code>long</code> range, is the practical limit of this method: for example, positions around 10<sup>14</sup> need about 1 GB of heap. Positions greater than about 1.1&times;10<sup>17</sup> are not supported, since the arrays would be longer than the maximum length of a Java array.
+	 * 
+	 * @param n the position of the prime number, starting from one (1)
+	 * @return the n-th prime number
+	 * @throws IllegalArgumentException if the provided position is less than one
+	 * @throws ArithmeticException if the provided position is greater than the number of prime numbers representable as a <code>long</code>, which is 216289611853439384
+	 * @throws UnsupportedOperationException if the prime numbers below the result cannot be counted with arrays of a valid length
+	 * @throws OutOfMemoryError if the arrays used to count the prime numbers below the result do not fit in the heap
+	 * @since JForconsol 1.1.0
+	 */
+	public static long nth(long n) {
+		if (n < 1) {
+			throw new IllegalArgumentException("Prime number positions start from one");
+		}
+		if (n > MAX_POSITION) {
+			throw new ArithmeticException("The n-th prime number overflows a long");
+		}
+		if (n == 1) {
+			return 2;
+		}
+		
+		final int[] TABLE = PrimeTable.snapshot().oddPrimes();
+		
+		if (n - 2 < TABLE.length) {
+			return TABLE[(int)(n - 2)];
+		}
+		
+		// The n-th prime number is greater than n(ln n + ln ln n - 1) for every n >= 2 (Dusart, 1999)
+		final double LOG = Math.log(n);
+		long bound = (long)(n * (LOG + Math.log(LOG) - 1));
+		long count = PrimeCounter.countUpTo(bound);
+		
+		while (count >= n) {
+			// Only reachable through floating-point error, since the estimate is a proven lower bound
+			bound -= bound >>> 6;
+			count = PrimeCounter.countUpTo(bound);
+		}
+		
+		final PrimeSieve SIEVE = new PrimeSieve(bound + 1);
+		long prime;
 		
 		do {
-			exactDivisions = 2;
-			divisor = 2;
-			incrementableNumber++;
+			prime = SIEVE.next();
+		}
+		while (++count < n);
+		
+		return prime;
+	}
+	
+	/**
+	 * Returns a sequential stream of the prime numbers that follow the last one computed with this instance, in the same order the <code>next</code> method would return them.
+	 * <p>
+	 * The elements are taken directly from the generator of this instance, without boxing, so this instance advances as the stream is consumed. The stream ends after the greatest prime number representable as an <code>int</code>.
+	 * 
+	 * @return an <code>IntStream</code> of the next prime numbers of this instance
+	 * @since JForconsol 1.1.0
+	 */
+	public IntStream stream() {
+		final PrimeSieve SIEVE = sieve();
+		
+		return StreamSupport.intStream(new Spliterators.AbstractIntSpliterator(Long.MAX_VALUE, CHARACTERISTICS) {
+			@Override
+			public boolean tryAdvance(IntConsumer action) {
+				if (SIEVE.peek() > Integer.MAX_VALUE) {
+					return false;
+				}
+				
+				action.accept((int)SIEVE.next());
+				return true;
+			}
 			
-			while (exactDivisions < 3 && divisor < incrementableNumber) {
-				if (incrementableNumber % divisor == 0) {
-					exactDivisions++;
+			@Override
+			public Comparator<? super Integer> getComparator() {
+				return null;
+			}
+		}, false);
+	}
+	
+	/**
+	 * Returns a sequential stream of the prime numbers from <code>from</code> (inclusive) to <code>to</code> (exclusive).
+	 * 
+	 * @param from the inclusive lower bound of the prime numbers
+	 * @param to the exclusive upper bound of the prime numbers
+	 * @return a <code>LongStream</code> of the prime numbers in the provided range, in ascending order
+	 * @since JForconsol 1.1.0
+	 */
+	public static LongStream range(long from, long to) {
+		if (from >= to || to <= 2) {
+			return LongStream.empty();
+		}
+		
+		final PrimeSieve SIEVE = new PrimeSieve(from);
+		
+		return StreamSupport.longStream(new Spliterators.AbstractLongSpliterator(to - Math.max(from, 0), CHARACTERISTICS) {
+			@Override
+			public boolean tryAdvance(LongConsumer action) {
+				final long PRIME = SIEVE.peek();
+				
+				if (PRIME >= to) {
+					return false;
+				}
+				
+				action.accept(SIEVE.next());
+				return true;
+			}
+			
+			@Override
+			public void forEachRemaining(LongConsumer action) {
+				for (long prime = SIEVE.peek(); prime < to; prime = SIEVE.peek()) {
+					action.accept(SIEVE.next());
 				}
-				divisor++;
 			}
+			
+			@Override
+			public Comparator<? super Long> getComparator() {
+				return null;
+			}
+		}, false);
+	}
+	
+	/**
+	 * Returns a sequential stream of every prime number that is not greater than the provided limit.
+	 * 
+	 * @param limit the inclusive upper bound of the prime numbers
+	 * @return a <code>LongStream</code> of the prime numbers up to the limit, in ascending order
+	 * @since JForconsol 1.1.0
+	 */
+	public static LongStream primesUpTo(long limit) {
+		// Long.MAX_VALUE is not a prime number, so it can be excluded to avoid overflowing
+		return range(2, limit == Long.MAX_VALUE ? limit : limit + 1);
+	}
+	
+	/**
+	 * Counts the prime numbers from <code>lo</code> (inclusive) to <code>hi</code> (exclusive).
+	 * <p>
+	 * Large ranges are split into groups of sieve segments that are counted in parallel on the common {@link ForkJoinPool}, and then the counts of every group are added up.
+	 * 
+	 * @param lo the inclusive lower bound of the prime numbers
+	 * @param hi the exclusive upper bound of the prime numbers
+	 * @return the number of prime numbers in the provided range
+	 * @since JForconsol 1.1.0
+	 */
+	public static long countInRange(long lo, long hi) {
+		lo = Math.max(lo, 2);
+		
+		if (lo >= hi) {
+			return 0;
 		}
-		while (exactDivisions != 2);
 		
-		return incrementableNumber;
+		// Every task reads its base primes from the shared table, so they are grown only once
+		PrimeTable.grow(baseLimitBelow(hi));
+		
+		final CountTask TASK = new CountTask(lo, hi);
+		
+		return hi - lo <= PARALLEL_SPAN ? TASK.compute() : ForkJoinPool.commonPool().invoke(TASK);
 	}
 	
 	/**
-	 * Resets this instance to its initial state.
+	 * Performs an action for each prime number from <code>lo</code> (inclusive) to <code>hi</code> (exclusive).
+	 * <p>
+	 * Large ranges are split into groups of sieve segments that are enumerated in parallel on the common {@link ForkJoinPool}. Just like the <code>forEach</code> operation of parallel streams, the action may be performed at whatever time and in whatever thread, so it must be thread-safe and the order of the prime numbers is not guaranteed.
+	 * 
+	 * @param lo the inclusive lower bound of the prime numbers
+	 * @param hi the exclusive upper bound of the prime numbers
+	 * @param action the action to perform on each prime number
+	 * @throws NullPointerException if the action is <code>null</code>
+	 * @since JForconsol 1.1.0
 	 */
-	public void reset() {
-		incrementableNumber = 1;
+	public static void forEachInRange(long lo, long hi, LongConsumer action) {
+		Objects.requireNonNull(action);
+		
+		lo = Math.max(lo, 2);
+		
+		if (lo >= hi) {
+			return;
+		}
+		
+		PrimeTable.grow(baseLimitBelow(hi));
+		
+		final ForEachTask TASK = new ForEachTask(lo, hi, action);
+		
+		if (hi - lo <= PARALLEL_SPAN) {
+			TASK.compute();
+		}
+		else {
+			ForkJoinPool.commonPool().invoke(TASK);
+		}
+	}
+	
+	/**
+	 * Checks whether the provided number is a prime number or not.
+	 * <p>
+	 * Numbers are first divided by the prime numbers below 64, and the ones left are tested with the Miller-Rabin algorithm over a set of bases that makes it deterministic across the whole <code>long</code> range.
+	 * 
+	 * @param n the number to be checked
+	 * @return <code>true</code> if the provided number is a prime number; <code>false</code> otherwise.
+	 * @since JForconsol 1.1.0
+	 */
+	public static boolean isPrime(long n) {
+		if (n < 2) {
+			return false;
+		}
+		
+		for (int p : SMALL_PRIMES) {
+			if (n % p == 0) {
+				return n == p;
+			}
+		}
+		
+		if (n < 64 * 64) {
+			return true;
+		}
+		
+		final long INVERSE = montgomeryInverse(n);
+		final long ONE = Long.remainderUnsigned(-n, n);
+		final long MINUS_ONE = n - ONE;
+		final long R_SQUARED = montgomeryRSquared(n, ONE);
+		final int S = Long.numberOfTrailingZeros(n - 1);
+		final long D = (n - 1) >>> S;
+		
+		bases:
+		for (long base : MILLER_RABIN_BASES) {
+			base %= n;
+			
+			if (base == 0) {
+				continue;
+			}
+			
+			long x = montgomeryPower(montgomeryMultiply(base, R_SQUARED, n, INVERSE), D, ONE, n, INVERSE);
+			
+			if (x == ONE || x == MINUS_ONE) {
+				continue;
+			}
+			
+			for (int i = 1; i < S; i++) {
+				x = montgomeryMultiply(x, x, n, INVERSE);
+				
+				if (x == MINUS_ONE) {
+					continue bases;
+				}
+			}
+			
+			return false;
+		}
+		
+		return true;
+	}
+	
+	private static long montgomeryInverse(long n) {
+		// Newton's iteration doubles the correct low bits of n^-1 mod 2^64 each time
+		long inverse = n;
+		
+		for (int i = 0; i < 5; i++) {
+			inverse *= 2 - n * inverse;
+		}
+		
+		return inverse;
+	}
+	
+	private static long montgomeryRSquared(long n, long r) {
+		long rSquared = r;
+		
+		for (int i = 0; i < Long.SIZE; i++) {
+			rSquared <<= 1;
+			
+			if (Long.compareUnsigned(rSquared, n) >= 0) {
+				rSquared -= n;
+			}
+		}
+		
+		return rSquared;
+	}
+	
+	private static long montgomeryMultiply(long a, long b, long n, long inverse) {
+		// Both products agree on their low 64 bits, so only their high halves need to be subtracted
+		final long M = a * b * inverse;
+		final long RESULT = Math.unsignedMultiplyHigh(a, b) - Math.unsignedMultiplyHigh(M, n);
+		
+		return RESULT < 0 ? RESULT + n : RESULT;
+	}
+	
+	private static long montgomeryPower(long base, long exponent, long one, long n, long inverse) {
+		long result = one;
+		
+		while (exponent != 0) {
+			if ((exponent & 1) != 0) {
+				result = montgomeryMultiply(result, base, n, inverse);
+			}
+			
+			base = montgomeryMultiply(base, base, n, inverse);
+			exponent >>>= 1;
+		}
+		
+		return result;
+	}
+	
+	private static long baseLimitBelow(long hi) {
+		// The last segment of a range may reach beyond its upper bound
+		return PrimeSieve.isqrt(Math.min(hi, Long.MAX_VALUE - PrimeSieve.SEGMENT_SPAN) + PrimeSieve.SEGMENT_SPAN);
+	}
+	
+	private static final class CountTask extends RecursiveTask<Long> {
+		private static final long serialVersionUID = 1L;
+		
+		private final long lo, hi;
+		
+		CountTask(long lo, long hi) {
+			this.lo = lo;
+			this.hi = hi;
+		}
+		
+		@Override
+		protected Long compute() {
+			if (hi - lo <= PARALLEL_SPAN) {
+				return new PrimeSieve(lo).countBelow(hi);
+			}
+			
+			final long MIDDLE = lo + (hi - lo) / 2;
+			final CountTask LEFT = new CountTask(lo, MIDDLE);
+			
+			LEFT.fork();
+			
+			return new CountTask(MIDDLE, hi).compute() + LEFT.join();
+		}
+	}
+	
+	private static final class ForEachTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		
+		private final long lo, hi;
+		private final transient LongConsumer action;
+		
+		ForEachTask(long lo, long hi, LongConsumer action) {
+			this.lo = lo;
+			this.hi = hi;
+			this.action = action;
+		}
+		
+		@Override
+		protected void compute() {
+			if (hi - lo <= PARALLEL_SPAN) {
+				final PrimeSieve SIEVE = new PrimeSieve(lo);
+				
+				while (SIEVE.peek() < hi) {
+					action.accept(SIEVE.next());
+				}
+				return;
+			}
+			
+			final long MIDDLE = lo + (hi - lo) / 2;
+			
+			invokeAll(new ForEachTask(lo, MIDDLE, action), new ForEachTask(MIDDLE, hi, action));
+		}
 	}
 }
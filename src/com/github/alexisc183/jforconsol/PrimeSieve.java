@@ -0,0 +1,331 @@
+package com.github.alexisc183.jforconsol;
+
+import java.util.Arrays;
+
+/**
+ * A segmented sieve of Eratosthenes that produces prime numbers in ascending order.
+ * <p>
+ * Only odd numbers are represented, one bit each, in a segment small enough to stay in the L1 data cache of most processors. Once every bit of a segment has been visited, the following segment is sieved with the odd primes not greater than the square root of its upper bound.
+ * <p>
+ * Prime numbers below the frontier of the shared {@link PrimeTable} are read from it instead of being sieved, and the table also provides the base primes of every segment. Since the table stops at 2<sup>25</sup>, which sieves every number below 2<sup>50</sup>, beyond that the sieve removes most composite numbers and the remaining candidates are confirmed with {@link PrimeNumber#isPrime(long)}.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @since JForconsol 1.1.0
+ */
+final class PrimeSieve {
+	static final int SEGMENT_WORDS = 4096;
+	static final int SEGMENT_BITS = SEGMENT_WORDS * Long.SIZE;
+	static final long SEGMENT_SPAN = 2L * SEGMENT_BITS;
+	
+	private long[] words;
+	private long low;
+	private int bitIndex;
+	private boolean isTwoPending;
+	
+	private int[] tablePrimes;
+	private int tableIndex;
+	
+	private PrimeTable.Snapshot basePrimes;
+	
+	/**
+	 * Creates a sieve whose first generated prime number is the smallest one that is greater than or equal to the provided value.
+	 * 
+	 * @param from the lower bound of the generated prime numbers
+	 */
+	PrimeSieve(long from) {
+		seek(from);
+	}
+	
+	/**
+	 * Moves this sieve so that the next generated prime number is the smallest one that is greater than or equal to the provided value.
+	 * 
+	 * @param from the lower bound of the generated prime numbers
+	 */
+	void seek(long from) {
+		isTwoPending = from <= 2;
+		basePrimes = PrimeTable.snapshot();
+		
+		if (from <= basePrimes.limit()) {
+			tablePrimes = basePrimes.oddPrimes();
+			tableIndex = firstIndexNotLess(tablePrimes, from);
+		}
+		else {
+			tablePrimes = null;
+			sieveSegment((from & 1) == 0 ? from + 1 : from);
+		}
+	}
+	
+	private static int firstIndexNotLess(int[] primes, long value) {
+		if (value > Integer.MAX_VALUE) {
+			return primes.length;
+		}
+		
+		final int INDEX = Arrays.binarySearch(primes, (int)Math.max(value, 3));
+		
+		return INDEX >= 0 ? INDEX : -INDEX - 1;
+	}
+	
+	/**
+	 * Returns the next prime number of this sieve.
+	 * 
+	 * @return the next prime number in ascending order
+	 */
+	long next() {
+		final long PRIME = peek();
+		
+		consume();
+		return PRIME;
+	}
+	
+	/**
+	 * Consumes the prime number that was returned by the last invocation of <code>peek()</code>.
+	 */
+	void consume() {
+		if (isTwoPending) {
+			isTwoPending = false;
+		}
+		else if (tablePrimes != null) {
+			tableIndex++;
+		}
+		else {
+			bitIndex++;
+		}
+	}
+	
+	/**
+	 * Returns the next prime number of this sieve without consuming it.
+	 * 
+	 * @return the prime number that the next invocation of <code>next()</code> returns, or <code>Long.MAX_VALUE</code> (which is not a prime number) if there is no greater prime number representable as a <code>long</code>
+	 */
+	long peek() {
+		if (isTwoPending) {
+			return 2;
+		}
+		
+		while (tablePrimes != null) {
+			if (tableIndex < tablePrimes.length) {
+				return tablePrimes[tableIndex];
+			}
+			
+			moveTableFrontier();
+		}
+		while (true) {
+			int bit = nextSetBit(bitIndex);
+			
+			if (bit >= 0) {
+				bitIndex = bit;
+				return low + 2L * bit;
+			}
+			if (isLastSegment()) {
+				bitIndex = SEGMENT_BITS;
+				return Long.MAX_VALUE;
+			}
+			
+			sieveSegment(low + SEGMENT_SPAN);
+		}
+	}
+	
+	/**
+	 * Consumes every remaining prime number of this sieve that is less than the provided bound and counts them.
+	 * 
+	 * @param to the exclusive upper bound of the counted prime numbers
+	 * @return the number of consumed prime numbers
+	 */
+	long countBelow(long to) {
+		long count = 0;
+		
+		if (isTwoPending) {
+			if (to <= 2) {
+				return count;
+			}
+			
+			isTwoPending = false;
+			count++;
+		}
+		
+		while (tablePrimes != null) {
+			final int END_INDEX = firstIndexNotLess(tablePrimes, to);
+			
+			if (END_INDEX > tableIndex) {
+				count += END_INDEX - tableIndex;
+				tableIndex = END_INDEX;
+			}
+			if (END_INDEX < tablePrimes.length || to <= basePrimes.limit()) {
+				return count;
+			}
+			
+			moveTableFrontier();
+		}
+		while (to - low > 2L * bitIndex) {
+			// Bits represent the odd numbers low, low + 2, low + 4... so this is the first one not less than the bound
+			final int END_BIT = (int)Math.min((to - low + 1) >>> 1, SEGMENT_BITS);
+			
+			count += countBits(bitIndex, END_BIT);
+			bitIndex = END_BIT;
+			
+			if (END_BIT < SEGMENT_BITS || isLastSegment()) {
+				break;
+			}
+			
+			sieveSegment(low + SEGMENT_SPAN);
+		}
+		
+		return count;
+	}
+	
+	private long countBits(int fromBit, int toBit) {
+		if (fromBit >= toBit) {
+			return 0;
+		}
+		
+		final int FIRST_WORD = fromBit >>> 6;
+		final int LAST_WORD = (toBit - 1) >>> 6;
+		final long LAST_MASK = -1L >>> -toBit;
+		
+		if (FIRST_WORD == LAST_WORD) {
+			return Long.bitCount(words[FIRST_WORD] & (-1L << fromBit) & LAST_MASK);
+		}
+		
+		long count = Long.bitCount(words[FIRST_WORD] & (-1L << fromBit));
+		
+		for (int i = FIRST_WORD + 1; i < LAST_WORD; i++) {
+			count += Long.bitCount(words[i]);
+		}
+		
+		return count + Long.bitCount(words[LAST_WORD] & LAST_MASK);
+	}
+	
+	private int nextSetBit(int fromBit) {
+		int wordIndex = fromBit >>> 6;
+		
+		if (wordIndex >= SEGMENT_WORDS) {
+			return -1;
+		}
+		
+		long word = words[wordIndex] & (-1L << fromBit);
+		
+		while (word == 0) {
+			if (++wordIndex == SEGMENT_WORDS) {
+				return -1;
+			}
+			word = words[wordIndex];
+		}
+		
+		return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+	}
+	
+	private void moveTableFrontier() {
+		final int FRONTIER = basePrimes.limit();
+		
+		basePrimes = PrimeTable.grow(2L * FRONTIER);
+		
+		if (basePrimes.limit() > FRONTIER) {
+			// Greater snapshots keep the primes of smaller ones at the same indexes
+			tablePrimes = basePrimes.oddPrimes();
+		}
+		else {
+			tablePrimes = null;
+			sieveSegment((FRONTIER + 1) | 1);
+		}
+	}
+	
+	private boolean isLastSegment() {
+		return low > Long.MAX_VALUE - SEGMENT_SPAN;
+	}
+	
+	private void sieveSegment(long segmentLow) {
+		// Long.MAX_VALUE is not a prime number, so excluding it from the last segment loses nothing
+		final long SEGMENT_HIGH = segmentLow > Long.MAX_VALUE - SEGMENT_SPAN ? Long.MAX_VALUE : segmentLow + SEGMENT_SPAN;
+		final long VALID_BITS = (SEGMENT_HIGH - segmentLow + 1) >>> 1;
+		
+		low = segmentLow;
+		bitIndex = 0;
+		
+		if (words == null) {
+			words = new long[SEGMENT_WORDS];
+		}
+		if (basePrimes.limit() < isqrt(SEGMENT_HIGH - 1)) {
+			basePrimes = PrimeTable.grow(isqrt(SEGMENT_HIGH - 1));
+		}
+		
+		Arrays.fill(words, -1L);
+		
+		for (int p : basePrimes.oddPrimes()) {
+			final long SQUARE = (long)p * p;
+			
+			if (SQUARE >= SEGMENT_HIGH) {
+				break;
+			}
+			
+			long offset;
+			
+			if (SQUARE >= segmentLow) {
+				offset = SQUARE - segmentLow;
+			}
+			else {
+				final long REMAINDER = segmentLow % p;
+				
+				offset = REMAINDER == 0 ? 0 : p - REMAINDER;
+				
+				if ((offset & 1) != 0) {
+					// The segment starts at an odd number, so odd offsets lead to even multiples
+					offset += p;
+				}
+			}
+			
+			for (long k = offset >>> 1; k < VALID_BITS; k += p) {
+				words[(int)(k >>> 6)] &= ~(1L << k);
+			}
+		}
+		
+		if (segmentLow == 1) {
+			// One is not a prime number
+			words[0] &= ~1L;
+		}
+		if (VALID_BITS < SEGMENT_BITS) {
+			clearBitsFrom((int)VALID_BITS);
+		}
+		if (SEGMENT_HIGH - 1 > (long)basePrimes.limit() * basePrimes.limit()) {
+			confirmCandidates();
+		}
+	}
+	
+	private void clearBitsFrom(int fromBit) {
+		words[fromBit >>> 6] &= ~(-1L << fromBit);
+		Arrays.fill(words, (fromBit >>> 6) + 1, SEGMENT_WORDS, 0);
+	}
+	
+	private void confirmCandidates() {
+		final long SIEVED_LIMIT = (long)basePrimes.limit() * basePrimes.limit();
+		
+		for (int bit = nextSetBit(0); bit >= 0; bit = nextSetBit(bit + 1)) {
+			final long CANDIDATE = low + 2L * bit;
+			
+			if (CANDIDATE > SIEVED_LIMIT && !PrimeNumber.isPrime(CANDIDATE)) {
+				words[bit >>> 6] &= ~(1L << bit);
+			}
+		}
+	}
+	
+	/**
+	 * Computes the integer square root of a non-negative number.
+	 * 
+	 * @param n a non-negative number
+	 * @return the greatest number whose square is not greater than <code>n</code>
+	 */
+	static long isqrt(long n) {
+		// Greater roots would overflow when squared
+		final long MAX_ROOT = 3037000499L;
+		long root = Math.min((long)Math.sqrt(n), MAX_ROOT);
+		
+		while (root * root > n) {
+			root--;
+		}
+		while (root < MAX_ROOT && (root + 1) * (root + 1) <= n) {
+			root++;
+		}
+		
+		return root;
+	}
+}
@@ -0,0 +1,128 @@
+package com.github.alexisc183.jforconsol;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A process-wide table of the odd prime numbers up to a frontier that grows on demand.
+ * <p>
+ * The table is published as immutable snapshots, so readers never lock. Threads that need a farther frontier compute a greater snapshot on their own and publish it with a compare-and-set operation; if another thread published first, its snapshot is used whenever it reaches far enough.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @since JForconsol 1.1.0
+ */
+final class PrimeTable {
+	/**
+	 * An immutable state of the table.
+	 * 
+	 * @param oddPrimes an ascending array of every odd prime number that is not greater than the limit. It must never be modified.
+	 * @param limit the frontier of this snapshot
+	 */
+	record Snapshot(int[] oddPrimes, int limit) {
+		
+	}
+	
+	/**
+	 * The greatest frontier the table can reach. Its 2,063,688 odd primes take about 8 MiB and sieve every number below 2<sup>50</sup>.
+	 */
+	static final int MAX_LIMIT = 1 << 25;
+	
+	private static final int INITIAL_LIMIT = 1 << 16;
+	private static final AtomicReference<Snapshot> SNAPSHOT = new AtomicReference<>(initialSnapshot());
+	
+	private PrimeTable() {
+		
+	}
+	
+	/**
+	 * Returns the current snapshot of the table.
+	 * 
+	 * @return the latest published snapshot
+	 */
+	static Snapshot snapshot() {
+		return SNAPSHOT.get();
+	}
+	
+	/**
+	 * Returns a snapshot whose frontier is not less than the provided limit, growing the table if necessary. The frontier never goes beyond <code>MAX_LIMIT</code>.
+	 * 
+	 * @param limit the minimum frontier of the returned snapshot
+	 * @return a snapshot that reaches the limit, or the greatest possible snapshot if the limit is beyond <code>MAX_LIMIT</code>
+	 */
+	static Snapshot grow(long limit) {
+		Snapshot current = SNAPSHOT.get();
+		
+		while (current.limit() < limit && current.limit() < MAX_LIMIT) {
+			// Doubling amortizes growth, and squaring the frontier is as far as the current primes can sieve
+			final long NEW_LIMIT = Math.min(Math.max(limit, 2L * current.limit()), Math.min((long)current.limit() * current.limit(), MAX_LIMIT));
+			final Snapshot GROWN = new Snapshot(extendOddPrimes(current.oddPrimes(), current.limit(), NEW_LIMIT), (int)NEW_LIMIT);
+			
+			if (SNAPSHOT.compareAndSet(current, GROWN)) {
+				current = GROWN;
+			}
+			else {
+				current = SNAPSHOT.get();
+			}
+		}
+		
+		return current;
+	}
+	
+	private static Snapshot initialSnapshot() {
+		int[] primes = { 3 };
+		long known = 3;
+		
+		while (known < INITIAL_LIMIT) {
+			final long NEXT = Math.min(INITIAL_LIMIT, known * known);
+			
+			primes = extendOddPrimes(primes, known, NEXT);
+			known = NEXT;
+		}
+		
+		return new Snapshot(primes, INITIAL_LIMIT);
+	}
+	
+	private static int[] extendOddPrimes(int[] primes, long from, long to) {
+		final long FIRST_ODD = (from + 1) | 1;
+		final boolean[] COMPOSITES = new boolean[(int)((to - FIRST_ODD) / 2 + 1)];
+		
+		for (int p : primes) {
+			final long SQUARE = (long)p * p;
+			
+			if (SQUARE > to) {
+				break;
+			}
+			
+			long multiple = Math.max(SQUARE, (FIRST_ODD + p - 1) / p * p);
+			
+			if ((multiple & 1) == 0) {
+				multiple += p;
+			}
+			
+			for (long k = (multiple - FIRST_ODD) >>> 1; k < COMPOSITES.length; k += p) {
+				COMPOSITES[(int)k] = true;
+			}
+		}
+		
+		int count = primes.length;
+		
+		for (boolean isComposite : COMPOSITES) {
+			if (!isComposite) {
+				count++;
+			}
+		}
+		
+		final int[] EXTENDED = Arrays.copyOf(primes, count);
+		
+		count = primes.length;
+		
+		for (int k = 0; k < COMPOSITES.length; k++) {
+			if (!COMPOSITES[k]) {
+				EXTENDED[count++] = (int)(FIRST_ODD + 2L * k);
+			}
+		}
+		
+		return EXTENDED;
+	}
+}
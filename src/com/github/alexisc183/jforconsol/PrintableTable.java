@@ -1,13 +1,49 @@
 package com.github.alexisc183.jforconsol;
 
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
 /**
  * Prints of a 2D array in a tabular fashion on the "standard" output stream.
+ * <p>
+ * Each element is converted to a string exactly once per print, either with its <code>toString()</code> method or with the cell formatter of the table, and that string is reused both to measure the columns and to print the element.
+ * <p>
+ * Tables can also be printed on any other {@link Appendable}, like a {@link java.io.Writer} or a {@link java.lang.StringBuilder}, or on an {@link OutputStream}. Rows are built in a buffer that is reused across prints and written in chunks of several kilobytes, so the target is neither locked nor flushed once per element.
+ * <p>
+ * Rows that are not materialized in an array can be printed as they arrive from an {@link Iterator} or a {@link Stream}. In that case the columns are measured either with the rows of a bounded look-ahead window or with lengths declared by the caller, so memory usage does not depend on the number of rows.
+ * <p>
+ * Arrays with more than 1024 rows and at least 65536 elements are stringified, measured and formatted in chunks of rows on the common {@link ForkJoinPool}, and the formatted chunks are written in order. In that case the cell formatter is invoked from several threads at the same time, and so are the <code>toString()</code> methods of the elements if there is no cell formatter, so either must be thread-safe. Elements whose <code>toString()</code> method is not thread-safe can be printed with a cell formatter that converts them while holding a lock.
+ * <p>
+ * Arrays too long for a terminal can be printed one page at a time, either with {@link #printPage(Object[][], int, int)} or with the interactive pager of {@link #printPaged(Object[][], int)}. The columns of a paged array are measured once and reused by every following page of the same array, so each page only stringifies and prints its own rows.
+ * <p>
+ * Tables whose cells are primitive values can be printed from a {@link TableModel}, like a {@link ColumnarTableModel}, which appends its cells straight to the buffer of the table without boxing them nor converting them to strings.
  * 
  * @author AlexisC183
- * @version 1, 2025-05-30
+ * @version 2, 2026-10-18
  * @since JForconsol 1.0.0
  */
 public class PrintableTable {
+	private static final int CHUNK_LENGTH = 8192;
+	private static final int DEFAULT_LOOK_AHEAD = 1000;
+	private static final int PARALLEL_THRESHOLD = 1 << 16;
+	private static final int ROWS_PER_CHUNK = 1 << 10;
+	
 	/**
 	 * Constants for aligning elements of arrays printed with a <code>PrintableTable</code> instance.
 	 */
@@ -23,17 +59,22 @@ public class PrintableTable {
 		RIGHT
 	}
 	
-	private Object[][] array;
 	private ElementAlignment elementAlignment;
-	private byte[] greaterElementLengths;
-	private byte i, j;
+	private Function<Object, String> cellFormatter;
 	private boolean hasSeparators;
+	private int lookAhead;
+	private int[] columnLengths;
+	private final StringBuilder buffer = new StringBuilder();
+	
+	// The paged array is weakly referenced so that the table never keeps it from being garbage collected
+	private WeakReference<Object[][]> pagedArray;
+	private int[] pagedLengths;
 	
 	/**
 	 * Creates a printable table.
 	 */
 	public PrintableTable() {
-		
+		lookAhead = DEFAULT_LOOK_AHEAD;
 	}
 
 	/**
@@ -72,29 +113,132 @@ public class PrintableTable {
 		hasSeparators = value;
 	}
 	
-	private void validateArray() {
+	/**
+	 * Returns the <code>cellFormatter</code> object for this printable table.
+	 * 
+	 * @return the function that converts each element of the table to the string that is printed, or <code>null</code> if the elements are converted with <code>String.valueOf(Object)</code>
+	 * @since JForconsol 1.1.0
+	 */
+	public Function<Object, String> getCellFormatter() {
+		return cellFormatter;
+	}
+	
+	/**
+	 * Sets the <code>cellFormatter</code> property. This function converts each element of the table, including <code>null</code> elements, to the string that is printed. The default value is <code>null</code>, which converts elements with <code>String.valueOf(Object)</code>.
+	 * <p>
+	 * The function is applied once per element on each print, from several threads at the same time when a large array is printed, so it must be thread-safe. If it returns <code>null</code>, then the string <code>"null"</code> is printed. Setting this property discards the column lengths measured for paging.
+	 * 
+	 * @param cellFormatter the function that converts each element of the table to the string that is printed
+	 * @since JForconsol 1.1.0
+	 */
+	public void setCellFormatter(Function<Object, String> cellFormatter) {
+		this.cellFormatter = cellFormatter;
+		pagedArray = null;
+		pagedLengths = null;
+	}
+	
+	/**
+	 * Returns the <code>lookAhead</code> property of this printable table.
+	 * 
+	 * @return the maximum number of rows that are buffered to measure the columns when printing rows from an <code>Iterator</code> or a <code>Stream</code>
+	 * @since JForconsol 1.1.0
+	 */
+	public int getLookAhead() {
+		return lookAhead;
+	}
+	
+	/**
+	 * Sets the <code>lookAhead</code> property. When printing rows from an <code>Iterator</code> or a <code>Stream</code> with no declared column lengths, up to this number of rows are buffered to measure the columns; the following rows are printed as soon as they arrive. The default value is 1000.
+	 * 
+	 * @param lookAhead the maximum number of rows that are buffered to measure the columns
+	 * @throws IllegalArgumentException if the provided value is less than one
+	 * @since JForconsol 1.1.0
+	 */
+	public void setLookAhead(int lookAhead) {
+		if (lookAhead < 1) {
+			throw new IllegalArgumentException("The look-ahead window must hold at least one row");
+		}
+		
+		this.lookAhead = lookAhead;
+	}
+	
+	/**
+	 * Returns the declared column lengths of this printable table.
+	 * 
+	 * @return a copy of the lengths used for the columns of rows printed from an <code>Iterator</code> or a <code>Stream</code>, or <code>null</code> if the columns are measured with the look-ahead window
+	 * @since JForconsol 1.1.0
+	 */
+	public int[] getColumnLengths() {
+		return columnLengths == null ? null : columnLengths.clone();
+	}
+	
+	/**
+	 * Declares the lengths of the columns of rows printed from an <code>Iterator</code> or a <code>Stream</code>, so that no row has to be buffered. If <code>null</code> is passed, then the columns are measured with the look-ahead window.
+	 * 
+	 * @param columnLengths the length of each column
+	 * @throws IllegalArgumentException if any of the provided lengths is negative
+	 * @see #setLookAhead(int)
+	 * @since JForconsol 1.1.0
+	 */
+	public void setColumnLengths(int... columnLengths) {
+		if (columnLengths != null && Arrays.stream(columnLengths).anyMatch(length -> length < 0)) {
+			throw new IllegalArgumentException("Column lengths cannot be negative");
+		}
+		
+		this.columnLengths = columnLengths == null ? null : columnLengths.clone();
+	}
+	
+	private static void validateArray(Object[][] array) {
 		if (!Arrays2D.is2DArray(array)) {
 			throw new IllegalArgumentException("All nested arrays of the provided array must be created and have the same length");
 		}
 	}
 	
-	private void determineGreaterElementLengths() {
-		greaterElementLengths = new byte[array[0].length];
+	private static int[] stringifyElements(Object[][] array, String[][] cells, int from, int to, Function<Object, String> formatter) {
+		final int[] GREATER_ELEMENT_LENGTHS = new int[array[from].length];
+		// Without an array of cells, the elements are only measured and a single row of strings is reused
+		String[] cellRow = cells == null ? new String[GREATER_ELEMENT_LENGTHS.length] : null;
 		
-		for (i = 0; i < array[0].length; i++) {
-			for (j = 0; j < array.length; j++) {
-				if (array[j][i] == null) {
-					if (greaterElementLengths[i] < 4) {
-						greaterElementLengths[i] = 4;
-					}
+		for (int i = from; i < to; i++) {
+			if (cells != null) {
+				cellRow = cells[i] = new String[GREATER_ELEMENT_LENGTHS.length];
+			}
+			
+			stringifyRow(array[i], cellRow, formatter);
+			
+			for (int j = 0; j < cellRow.length; j++) {
+				if (GREATER_ELEMENT_LENGTHS[j] < cellRow[j].length()) {
+					GREATER_ELEMENT_LENGTHS[j] = cellRow[j].length();
 				}
-				else {
-					if (greaterElementLengths[i] < array[j][i].toString().length()) {
-						greaterElementLengths[i] = (byte)array[j][i].toString().length();
-					}
+			}
+		}
+		
+		return GREATER_ELEMENT_LENGTHS;
+	}
+	
+	private static String[] stringifyRow(Object[] row, String[] cellRow, Function<Object, String> formatter) {
+		for (int j = 0; j < cellRow.length; j++) {
+			cellRow[j] = String.valueOf(formatter == null ? row[j] : formatter.apply(row[j]));
+		}
+		
+		return cellRow;
+	}
+	
+	private static int[] determineGreaterElementLengths(String[][] cells, int from, int to) {
+		final int[] GREATER_ELEMENT_LENGTHS = new int[cells[from].length];
+		
+		// Rows are walked in memory order, each one updating every column
+		for (int i = from; i < to; i++) {
+			final String[] CELL_ROW = cells[i];
+			
+			for (int j = 0; j < CELL_ROW.length; j++) {
+				if (GREATER_ELEMENT_LENGTHS[j] < CELL_ROW[j].length()) {
+					GREATER_ELEMENT_LENGTHS[j] = CELL_ROW[j].length();
 				}
 			}
 		}
+		
+		return GREATER_ELEMENT_LENGTHS;
 	}
 	
 	/**
@@ -110,36 +254,601 @@ public class PrintableTable {
 	 * @see Arrays2D#is2DArray(Object[][])
 	 */
 	public void print(Object[][] array) {
-		this.array = array;
+		print(array, System.out);
+	}
+	
+	/**
+	 * Prints the provided array on the provided print stream, which is flushed once the whole array has been written.
+	 * 
+	 * @param array a 2D array to be printed
+	 * @param out the print stream to print the array on
+	 * @throws IllegalArgumentException if:
+	 * <ul>
+	 * <li>nested arrays equaling <code>null</code> are found
+	 * <li>the provided array contains nested arrays of different lengths
+	 * </ul>
+	 * @throws NullPointerException if the provided array or print stream is <code>null</code>
+	 * @see Arrays2D#is2DArray(Object[][])
+	 * @since JForconsol 1.1.0
+	 */
+	public void print(Object[][] array, PrintStream out) {
+		print(array, (Appendable)out);
+	}
+	
+	/**
+	 * Prints the provided array on the provided output stream, encoding characters with the default charset. The output stream is flushed once the whole array has been written, but it is not closed.
+	 * 
+	 * @param array a 2D array to be printed
+	 * @param out the output stream to print the array on
+	 * @throws IllegalArgumentException if:
+	 * <ul>
+	 * <li>nested arrays equaling <code>null</code> are found
+	 * <li>the provided array contains nested arrays of different lengths
+	 * </ul>
+	 * @throws NullPointerException if the provided array or output stream is <code>null</code>
+	 * @throws UncheckedIOException if an I/O error occurs
+	 * @see Arrays2D#is2DArray(Object[][])
+	 * @since JForconsol 1.1.0
+	 */
+	public void print(Object[][] array, OutputStream out) {
+		print(array, new OutputStreamWriter(Objects.requireNonNull(out), Charset.defaultCharset()));
+	}
+	
+	/**
+	 * Prints the provided array on the provided appendable object, for example a {@link java.io.Writer} or a {@link java.lang.StringBuilder}.
+	 * <p>
+	 * The array is written in chunks of several kilobytes. If the appendable object is also {@link Flushable}, it is flushed once the whole array has been written.
+	 * 
+	 * @param array a 2D array to be printed
+	 * @param out the appendable object to print the array on
+	 * @throws IllegalArgumentException if:
+	 * <ul>
+	 * <li>nested arrays equaling <code>null</code> are found
+	 * <li>the provided array contains nested arrays of different lengths
+	 * </ul>
+	 * @throws NullPointerException if the provided array or appendable object is <code>null</code>
+	 * @throws UncheckedIOException if an I/O error occurs
+	 * @see Arrays2D#is2DArray(Object[][])
+	 * @since JForconsol 1.1.0
+	 */
+	public void print(Object[][] array, Appendable out) {
+		Objects.requireNonNull(out);
+		validateArray(array);
+		
+		try {
+			if (array.length != 0) {
+				final boolean IS_PARALLEL = array.length > ROWS_PER_CHUNK && (long)array.length * array[0].length >= PARALLEL_THRESHOLD;
+				final boolean IS_RIGHT_ALIGNED = elementAlignment == ElementAlignment.RIGHT || elementAlignment == null && array instanceof Number[][];
+				final String[][] CELLS = new String[array.length][];
+				
+				if (IS_PARALLEL) {
+					final int[] GREATER_ELEMENT_LENGTHS = ForkJoinPool.commonPool().invoke(new MeasuringTask(array, CELLS, 0, array.length, cellFormatter));
+					
+					printInParallel(CELLS, GREATER_ELEMENT_LENGTHS, IS_RIGHT_ALIGNED, out);
+				}
+				else {
+					final int[] GREATER_ELEMENT_LENGTHS = stringifyElements(array, CELLS, 0, array.length, cellFormatter);
+					
+					for (String[] cellRow : CELLS) {
+						printRow(cellRow, GREATER_ELEMENT_LENGTHS, IS_RIGHT_ALIGNED, out);
+					}
+					
+					writeBuffer(out);
+				}
+			}
+			
+			if (out instanceof Flushable flushable) {
+				flushable.flush();
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		finally {
+			buffer.setLength(0);
+		}
+	}
+	
+	/**
+	 * Prints the cells of the provided table model on the "standard" output stream.
+	 * 
+	 * @param model the table model to be printed
+	 * @throws NullPointerException if the provided table model is <code>null</code>
+	 * @see #print(TableModel, Appendable)
+	 * @since JForconsol 1.1.0
+	 */
+	public void print(TableModel model) {
+		print(model, System.out);
+	}
+	
+	/**
+	 * Prints the cells of the provided table model on the provided appendable object.
+	 * <p>
+	 * The cell formatter of this table is not applied to the cells of table models. If the <code>elementAlignment</code> property is <code>null</code>, then each column is aligned as its <code>isRightAligned</code> method indicates. If the appendable object is also {@link Flushable}, it is flushed once the whole table model has been written.
+	 * <p>
+	 * The <code>getCellLength</code> method of the table model is invoked twice per cell, once to measure the columns and once to pad the cell, so only the length of each column is kept while the cells are appended.
+	 * 
+	 * @param model the table model to be printed
+	 * @param out the appendable object to print the table model on
+	 * @throws NullPointerException if the provided table model or appendable object is <code>null</code>
+	 * @throws UncheckedIOException if an I/O error occurs
+	 * @since JForconsol 1.1.0
+	 */
+	public void print(TableModel model, Appendable out) {
+		Objects.requireNonNull(model);
+		Objects.requireNonNull(out);
+		
+		try {
+			final int ROWS = model.getRowCount();
+			final int[] LENGTHS = new int[model.getColumnCount()];
+			final boolean[] ARE_RIGHT_ALIGNED = new boolean[LENGTHS.length];
+			
+			for (int j = 0; j < LENGTHS.length; j++) {
+				ARE_RIGHT_ALIGNED[j] = elementAlignment == null ? model.isRightAligned(j) : elementAlignment == ElementAlignment.RIGHT;
+				
+				for (int i = 0; i < ROWS; i++) {
+					LENGTHS[j] = Math.max(LENGTHS[j], model.getCellLength(i, j));
+				}
+			}
+			for (int i = 0; i < ROWS; i++) {
+				for (int j = 0; j < LENGTHS.length; j++) {
+					appendCell(model, i, j, LENGTHS[j] - model.getCellLength(i, j), ARE_RIGHT_ALIGNED[j]);
+				}
+				
+				buffer.append(System.lineSeparator());
+				
+				if (buffer.length() >= CHUNK_LENGTH) {
+					writeBuffer(out);
+				}
+			}
+			
+			writeBuffer(out);
+			
+			if (out instanceof Flushable flushable) {
+				flushable.flush();
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		finally {
+			buffer.setLength(0);
+		}
+	}
+	
+	private void appendCell(TableModel model, int row, int column, int padding, boolean isRightAligned) {
+		if (isRightAligned) {
+			appendSpaces(buffer, padding);
+			model.appendCell(buffer, row, column);
+		}
+		else {
+			model.appendCell(buffer, row, column);
+			appendSpaces(buffer, padding);
+		}
+		
+		buffer.append(' ');
+		
+		if (hasSeparators) {
+			buffer.append("| ");
+		}
+	}
+	
+	/**
+	 * Prints a page of the provided array on the "standard" output stream.
+	 * 
+	 * @param array a 2D array whose page is to be printed
+	 * @param offset the index of the first row of the page
+	 * @param limit the maximum number of rows of the page
+	 * @throws IllegalArgumentException if:
+	 * <ul>
+	 * <li>nested arrays equaling <code>null</code> are found
+	 * <li>the provided array contains nested arrays of different lengths
+	 * <li>the offset is negative or greater than the length of the array
+	 * <li>the limit is negative
+	 * </ul>
+	 * @throws NullPointerException if the provided array is <code>null</code>
+	 * @see #printPage(Object[][], int, int, Appendable)
+	 * @since JForconsol 1.1.0
+	 */
+	public void printPage(Object[][] array, int offset, int limit) {
+		printPage(array, offset, limit, System.out);
+	}
+	
+	/**
+	 * Prints a page of the provided array on the provided appendable object. The page starts at the row at the provided offset and spans at most the provided number of rows.
+	 * <p>
+	 * Columns have the lengths of the whole array, not only of the page, so consecutive pages line up. Those lengths are measured the first time a page of the array is printed and reused while the same array, compared by identity, is paged and the cell formatter is not replaced. Therefore, changes to the elements of the array after its first page are not taken into account to measure the columns.
+	 * 
+	 * @param array a 2D array whose page is to be printed
+	 * @param offset the index of the first row of the page
+	 * @param limit the maximum number of rows of the page
+	 * @param out the appendable object to print the page on
+	 * @throws IllegalArgumentException if:
+	 * <ul>
+	 * <li>nested arrays equaling <code>null</code> are found
+	 * <li>the provided array contains nested arrays of different lengths
+	 * <li>the offset is negative or greater than the length of the array
+	 * <li>the limit is negative
+	 * </ul>
+	 * @throws NullPointerException if the provided array or appendable object is <code>null</code>
+	 * @throws UncheckedIOException if an I/O error occurs
+	 * @since JForconsol 1.1.0
+	 */
+	public void printPage(Object[][] array, int offset, int limit, Appendable out) {
+		Objects.requireNonNull(out);
 		
-		validateArray();
+		final int[] LENGTHS = measurePagedArray(array);
 		
-		if (array.length != 0) {
-			determineGreaterElementLengths();
+		if (offset < 0 || offset > array.length) {
+			throw new IllegalArgumentException("The offset must be between zero and the length of the array");
+		}
+		if (limit < 0) {
+			throw new IllegalArgumentException("The limit cannot be negative");
+		}
+		
+		try {
+			final int END = (int)Math.min((long)offset + limit, array.length);
+			final boolean IS_RIGHT_ALIGNED = elementAlignment == ElementAlignment.RIGHT || elementAlignment == null && array instanceof Number[][];
+			final String[] CELL_ROW = new String[LENGTHS.length];
+			
+			for (int i = offset; i < END; i++) {
+				printRow(stringifyRow(validateRow(array[i], LENGTHS.length), CELL_ROW, cellFormatter), LENGTHS, IS_RIGHT_ALIGNED, out);
+			}
 			
-			for (i = 0; i < array.length; i++) {
-				for (j = 0; j < array[0].length; j++) {
-					printElement();
+			writeBuffer(out);
+			
+			if (out instanceof Flushable flushable) {
+				flushable.flush();
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		finally {
+			buffer.setLength(0);
+		}
+	}
+	
+	/**
+	 * Prints the provided array on the "standard" output stream one page at a time, and lets the user move through the pages.
+	 * <p>
+	 * After each page, a command is read from the "standard" input stream through the scanner of the {@link InputRequest} class:
+	 * <ul>
+	 * <li>an empty line or <code>n</code> shows the next page, or ends paging after the last one
+	 * <li><code>p</code> shows the previous page
+	 * <li>a page number shows that page
+	 * <li><code>q</code> ends paging
+	 * </ul>
+	 * Paging also ends when the input stream has no more lines. Columns are measured once for the whole array, as described in {@link #printPage(Object[][], int, int, Appendable)}.
+	 * 
+	 * @param array a 2D array to be paged
+	 * @param pageSize the number of rows of each page
+	 * @throws IllegalArgumentException if:
+	 * <ul>
+	 * <li>nested arrays equaling <code>null</code> are found
+	 * <li>the provided array contains nested arrays of different lengths
+	 * <li>the page size is less than one
+	 * </ul>
+	 * @throws IllegalStateException if the <code>InputRequest</code> class has been closed
+	 * @throws NullPointerException if the provided array is <code>null</code>
+	 * @since JForconsol 1.1.0
+	 */
+	public void printPaged(Object[][] array, int pageSize) {
+		if (pageSize < 1) {
+			throw new IllegalArgumentException("Pages must hold at least one row");
+		}
+		
+		measurePagedArray(array);
+		
+		final int PAGES = Math.max(1, (int)(((long)array.length + pageSize - 1) / pageSize));
+		int page = 0;
+		
+		while (true) {
+			final int OFFSET = page * pageSize;
+			
+			printPage(array, OFFSET, pageSize);
+			System.out.print("-- Page " + (page + 1) + " of " + PAGES + " -- [Enter] next, [p] previous, [number] go to page, [q] quit: ");
+			
+			final String COMMAND = InputRequest.nextLine();
+			
+			if (COMMAND == null || COMMAND.equalsIgnoreCase("q")) {
+				return;
+			}
+			if (COMMAND.isEmpty() || COMMAND.equalsIgnoreCase("n")) {
+				if (page == PAGES - 1) {
+					return;
 				}
 				
-				System.out.println();
+				page++;
+			}
+			else if (COMMAND.equalsIgnoreCase("p")) {
+				page = Math.max(0, page - 1);
+			}
+			else {
+				try {
+					page = Math.clamp(Integer.parseInt(COMMAND.strip()) - 1L, 0, PAGES - 1);
+				}
+				catch (NumberFormatException e) {
+					// Unknown commands show the same page again
+				}
 			}
 		}
 	}
 	
-	private void printElement() {
-		final Object ELEMENT = array[i][j];
-		final int ELEMENT_LENGTH = ELEMENT == null ? 4 : ELEMENT.toString().length();
+	private int[] measurePagedArray(Object[][] array) {
+		if (pagedArray != null && pagedArray.get() == array && array != null) {
+			return pagedLengths;
+		}
+		
+		validateArray(array);
 		
-		if (!(array instanceof Number[][]) && elementAlignment == null || elementAlignment == ElementAlignment.LEFT) {
-			System.out.print(ELEMENT + " ".repeat(greaterElementLengths[j] - ELEMENT_LENGTH) + " ");
+		final int[] LENGTHS;
+		
+		if (array.length == 0) {
+			LENGTHS = new int[0];
+		}
+		else if (array.length > ROWS_PER_CHUNK && (long)array.length * array[0].length >= PARALLEL_THRESHOLD) {
+			LENGTHS = ForkJoinPool.commonPool().invoke(new MeasuringTask(array, null, 0, array.length, cellFormatter));
 		}
 		else {
-			System.out.print(" ".repeat(greaterElementLengths[j] - ELEMENT_LENGTH) + ELEMENT + " ");
+			LENGTHS = stringifyElements(array, null, 0, array.length, cellFormatter);
 		}
+		
+		pagedArray = new WeakReference<>(array);
+		pagedLengths = LENGTHS;
+		return LENGTHS;
+	}
+	
+	/**
+	 * Prints the rows of the provided stream on the provided appendable object as they arrive.
+	 * <p>
+	 * This is a terminal operation on the stream, which is not closed by this method. Each list is a row, and all of them must have the same size. See {@link #print(Iterator, Appendable)} for how the columns are measured and aligned; since lists carry no element type, the alignment depends on the elements of the first row.
+	 * 
+	 * @param rows the stream of rows to be printed
+	 * @param out the appendable object to print the rows on
+	 * @throws IllegalArgumentException if a row equaling <code>null</code> is found, or if the rows have different sizes
+	 * @throws NullPointerException if the provided stream or appendable object is <code>null</code>
+	 * @throws UncheckedIOException if an I/O error occurs
+	 * @since JForconsol 1.1.0
+	 */
+	public void print(Stream<? extends List<?>> rows, Appendable out) {
+		print(rows.map(row -> row == null ? null : row.toArray()).iterator(), out);
+	}
+	
+	/**
+	 * Prints the rows of the provided iterator on the provided appendable object as they arrive.
+	 * <p>
+	 * If column lengths were declared with the <code>setColumnLengths</code> method, every row is printed as soon as it is returned by the iterator. Otherwise, the columns are measured with the rows of a look-ahead window whose size is the <code>lookAhead</code> property, and the rows after the window are printed as soon as they are returned. Either way, elements longer than their column are printed whole, without padding.
+	 * <p>
+	 * If the <code>elementAlignment</code> property is <code>null</code>, then elements are aligned to the right when the first row is a <code>Number</code> array or all of its elements are numbers.
+	 * 
+	 * @param rows the iterator of rows to be printed
+	 * @param out the appendable object to print the rows on
+	 * @throws IllegalArgumentException if:
+	 * <ul>
+	 * <li>a row equaling <code>null</code> is found
+	 * <li>the rows have different lengths
+	 * <li>the declared column lengths do not match the length of the rows
+	 * </ul>
+	 * @throws NullPointerException if the provided iterator or appendable object is <code>null</code>
+	 * @throws UncheckedIOException if an I/O error occurs
+	 * @since JForconsol 1.1.0
+	 */
+	public void print(Iterator<? extends Object[]> rows, Appendable out) {
+		Objects.requireNonNull(rows);
+		Objects.requireNonNull(out);
+		
+		try {
+			if (rows.hasNext()) {
+				final Object[] FIRST_ROW = validateRow(rows.next(), -1);
+				final int COLUMNS = FIRST_ROW.length;
+				final boolean IS_RIGHT_ALIGNED = elementAlignment == ElementAlignment.RIGHT || elementAlignment == null && isNumberRow(FIRST_ROW);
+				final String[] CELL_ROW = new String[COLUMNS];
+				final int[] LENGTHS;
+				
+				if (columnLengths != null) {
+					if (columnLengths.length != COLUMNS) {
+						throw new IllegalArgumentException("The declared column lengths do not match the length of the rows");
+					}
+					
+					LENGTHS = columnLengths.clone();
+					
+					printRow(stringifyRow(FIRST_ROW, CELL_ROW, cellFormatter), LENGTHS, IS_RIGHT_ALIGNED, out);
+				}
+				else {
+					final String[][] WINDOW = new String[lookAhead][];
+					int size = 0;
+					
+					WINDOW[size++] = stringifyRow(FIRST_ROW, new String[COLUMNS], cellFormatter);
+					
+					while (size < lookAhead && rows.hasNext()) {
+						WINDOW[size++] = stringifyRow(validateRow(rows.next(), COLUMNS), new String[COLUMNS], cellFormatter);
+					}
+					
+					LENGTHS = determineGreaterElementLengths(WINDOW, 0, size);
+					
+					for (int i = 0; i < size; i++) {
+						printRow(WINDOW[i], LENGTHS, IS_RIGHT_ALIGNED, out);
+						WINDOW[i] = null;
+					}
+				}
+				
+				while (rows.hasNext()) {
+					printRow(stringifyRow(validateRow(rows.next(), COLUMNS), CELL_ROW, cellFormatter), LENGTHS, IS_RIGHT_ALIGNED, out);
+				}
+				
+				writeBuffer(out);
+			}
 			
+			if (out instanceof Flushable flushable) {
+				flushable.flush();
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		finally {
+			buffer.setLength(0);
+		}
+	}
+	
+	private static boolean isNumberRow(Object[] row) {
+		if (row instanceof Number[]) {
+			return true;
+		}
+		
+		// Rows of a stream are copied to Object arrays, so their elements are checked instead
+		for (Object element : row) {
+			if (!(element instanceof Number)) {
+				return false;
+			}
+		}
+		
+		return row.length != 0;
+	}
+	
+	private static Object[] validateRow(Object[] row, int columns) {
+		if (row == null || columns >= 0 && row.length != columns) {
+			throw new IllegalArgumentException("All rows must be created and have the same length");
+		}
+		
+		return row;
+	}
+	
+	private void printRow(String[] cellRow, int[] lengths, boolean isRightAligned, Appendable out) throws IOException {
+		appendRow(buffer, cellRow, lengths, isRightAligned, hasSeparators);
+		
+		if (buffer.length() >= CHUNK_LENGTH) {
+			writeBuffer(out);
+		}
+	}
+	
+	private void printInParallel(String[][] cells, int[] lengths, boolean isRightAligned, Appendable out) throws IOException {
+		// Only a few chunks are formatted ahead of the one being written, which bounds the memory held by formatted text
+		final int MAX_PENDING_CHUNKS = 2 * ForkJoinPool.getCommonPoolParallelism();
+		final ArrayDeque<ForkJoinTask<StringBuilder>> PENDING_CHUNKS = new ArrayDeque<>();
+		int nextRow = 0;
+		
+		try {
+			while (nextRow < cells.length || !PENDING_CHUNKS.isEmpty()) {
+				while (nextRow < cells.length && PENDING_CHUNKS.size() < MAX_PENDING_CHUNKS) {
+					final int TO = Math.min(nextRow + ROWS_PER_CHUNK, cells.length);
+					
+					PENDING_CHUNKS.add(ForkJoinPool.commonPool().submit(new FormattingTask(cells, nextRow, TO, lengths, isRightAligned, hasSeparators)));
+					nextRow = TO;
+				}
+				
+				out.append(PENDING_CHUNKS.remove().join());
+			}
+		}
+		finally {
+			for (ForkJoinTask<StringBuilder> chunk : PENDING_CHUNKS) {
+				chunk.cancel(false);
+			}
+		}
+	}
+	
+	private void writeBuffer(Appendable out) throws IOException {
+		out.append(buffer);
+		buffer.setLength(0);
+	}
+	
+	private static void appendRow(StringBuilder builder, String[] cellRow, int[] lengths, boolean isRightAligned, boolean hasSeparators) {
+		for (int j = 0; j < cellRow.length; j++) {
+			appendElement(builder, cellRow[j], lengths[j], isRightAligned, hasSeparators);
+		}
+		
+		builder.append(System.lineSeparator());
+	}
+	
+	private static void appendElement(StringBuilder builder, String element, int columnLength, boolean isRightAligned, boolean hasSeparators) {
+		if (isRightAligned) {
+			appendSpaces(builder, columnLength - element.length());
+			builder.append(element).append(' ');
+		}
+		else {
+			builder.append(element);
+			appendSpaces(builder, columnLength - element.length());
+			builder.append(' ');
+		}
+		
 		if (hasSeparators) {
-			System.out.print("| ");
+			builder.append("| ");
+		}
+	}
+	
+	private static void appendSpaces(StringBuilder builder, int count) {
+		for (int k = 0; k < count; k++) {
+			builder.append(' ');
+		}
+	}
+	
+	// Tasks only run on the common pool and are never serialized
+	private static final class MeasuringTask extends RecursiveTask<int[]> {
+		private static final long serialVersionUID = 1L;
+		
+		private final transient Object[][] array;
+		private final String[][] cells;
+		private final int from, to;
+		private final transient Function<Object, String> formatter;
+		
+		MeasuringTask(Object[][] array, String[][] cells, int from, int to, Function<Object, String> formatter) {
+			this.array = array;
+			this.cells = cells;
+			this.from = from;
+			this.to = to;
+			this.formatter = formatter;
+		}
+		
+		@Override
+		protected int[] compute() {
+			if (to - from <= ROWS_PER_CHUNK) {
+				return stringifyElements(array, cells, from, to, formatter);
+			}
+			
+			final int MIDDLE = (from + to) >>> 1;
+			final MeasuringTask LEFT = new MeasuringTask(array, cells, from, MIDDLE, formatter);
+			
+			LEFT.fork();
+			
+			final int[] RIGHT_LENGTHS = new MeasuringTask(array, cells, MIDDLE, to, formatter).compute();
+			final int[] LEFT_LENGTHS = LEFT.join();
+			
+			for (int j = 0; j < LEFT_LENGTHS.length; j++) {
+				LEFT_LENGTHS[j] = Math.max(LEFT_LENGTHS[j], RIGHT_LENGTHS[j]);
+			}
+			
+			return LEFT_LENGTHS;
+		}
+	}
+	
+	private static final class FormattingTask extends RecursiveTask<StringBuilder> {
+		private static final long serialVersionUID = 1L;
+		
+		private final String[][] cells;
+		private final int from, to;
+		private final int[] lengths;
+		private final boolean isRightAligned;
+		private final boolean hasSeparators;
+		
+		FormattingTask(String[][] cells, int from, int to, int[] lengths, boolean isRightAligned, boolean hasSeparators) {
+			this.cells = cells;
+			this.from = from;
+			this.to = to;
+			this.lengths = lengths;
+			this.isRightAligned = isRightAligned;
+			this.hasSeparators = hasSeparators;
+		}
+		
+		@Override
+		protected StringBuilder compute() {
+			final StringBuilder CHUNK = new StringBuilder();
+			
+			for (int i = from; i < to; i++) {
+				appendRow(CHUNK, cells[i], lengths, isRightAligned, hasSeparators);
+			}
+			
+			return CHUNK;
 		}
 	}
 }
\ No newline at end of file
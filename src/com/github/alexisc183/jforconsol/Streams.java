@@ -1,14 +1,45 @@
 package com.github.alexisc183.jforconsol;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.DoubleFunction;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
 import java.util.Optional;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utility methods for streams.
+ * <p>
+ * Besides the sequential <code>forEachWithThrown</code> operation, actions can be performed on an {@link ExecutorService} or on virtual threads with a bounded number of concurrent actions. In that case, elements are taken from the stream by the calling thread only as fast as the actions complete.
+ * <p>
+ * The <code>chunked</code>, <code>windowed</code> and <code>zip</code> operators are lazy, so they can be applied to infinite streams. Under <code>parallel()</code>, <code>chunked</code> and <code>windowed</code> split a stream whose size is known after every split, such as a range or a list, at chunk or window boundaries, carrying over at most one chunk or window of elements. Any other stream is split by buffering batches of chunks or windows taken in order, whose total number of elements grows with each split as it does for the elements of an unsized stream; <code>zip</code> is always split that way.
  * 
  * @author AlexisC183
- * @version 1, 2025-05-30
+ * @version 2, 2026-10-18
  * @since JForconsol 1.0.0
  */
 public final class Streams {
@@ -35,4 +66,660 @@ public final class Streams {
 			   .filter(x -> x instanceof X)
 			   .findAny();
 	}
+	
+	/**
+	 * Performs an action for each element of the provided <code>int</code> stream and gets an optional exception returned from any iteration on the elements.
+	 * <p>
+	 * This method behaves like {@link #forEachWithThrown(Stream, Function)}, but the elements are not boxed.
+	 * 
+	 * @param <X> the type of the exception to be caused within the action
+	 * @param source the stream to be iterated over
+	 * @param action the action to perform on the elements
+	 * @return a non-empty optional, if any iteration on the elements returned an exception
+	 * @since JForconsol 1.1.0
+	 */
+	public static <X extends Throwable> Optional<X> forEachWithThrown(IntStream source, IntFunction<X> action) {
+		return source
+			   .mapToObj(action)
+			   .filter(Objects::nonNull)
+			   .findAny();
+	}
+	
+	/**
+	 * Performs an action for each element of the provided <code>long</code> stream and gets an optional exception returned from any iteration on the elements.
+	 * <p>
+	 * This method behaves like {@link #forEachWithThrown(Stream, Function)}, but the elements are not boxed.
+	 * 
+	 * @param <X> the type of the exception to be caused within the action
+	 * @param source the stream to be iterated over
+	 * @param action the action to perform on the elements
+	 * @return a non-empty optional, if any iteration on the elements returned an exception
+	 * @since JForconsol 1.1.0
+	 */
+	public static <X extends Throwable> Optional<X> forEachWithThrown(LongStream source, LongFunction<X> action) {
+		return source
+			   .mapToObj(action)
+			   .filter(Objects::nonNull)
+			   .findAny();
+	}
+	
+	/**
+	 * Performs an action for each element of the provided <code>double</code> stream and gets an optional exception returned from any iteration on the elements.
+	 * <p>
+	 * This method behaves like {@link #forEachWithThrown(Stream, Function)}, but the elements are not boxed.
+	 * 
+	 * @param <X> the type of the exception to be caused within the action
+	 * @param source the stream to be iterated over
+	 * @param action the action to perform on the elements
+	 * @return a non-empty optional, if any iteration on the elements returned an exception
+	 * @since JForconsol 1.1.0
+	 */
+	public static <X extends Throwable> Optional<X> forEachWithThrown(DoubleStream source, DoubleFunction<X> action) {
+		return source
+			   .mapToObj(action)
+			   .filter(Objects::nonNull)
+			   .findAny();
+	}
+	
+	/**
+	 * Performs an action for each element of the provided stream on the provided executor service and gets the first exception returned from any action.
+	 * <p>
+	 * At most <code>maxConcurrency</code> actions run or wait to run at the same time; the calling thread takes the next element from the stream only once an action completes. As soon as an action returns an instance of <code>X</code>, no more elements are taken, the actions that did not start are cancelled, and the threads of the running ones are interrupted. This method returns once every action that started has completed. If the calling thread is interrupted while waiting, outstanding actions are cancelled the same way and its interrupt status is set again.
+	 * <p>
+	 * If an action throws an exception instead of returning it, outstanding actions are cancelled and that exception is rethrown by this method. The same happens if the stream throws an exception or the executor service rejects an action; either way, the exception is rethrown only once the actions that started have completed.
+	 * 
+	 * @param <T> the type of the stream elements
+	 * @param <X> the type of the exception to be caused within the action
+	 * @param source the stream to be iterated over
+	 * @param action the action to perform on the elements, which must be thread-safe
+	 * @param executor the executor service that runs the actions
+	 * @param maxConcurrency the maximum number of actions that run or wait to run at the same time
+	 * @return a non-empty optional, if any action returned an exception
+	 * @throws IllegalArgumentException if the maximum concurrency is less than one
+	 * @throws NullPointerException if the provided stream, action or executor service is <code>null</code>
+	 * @throws RejectedExecutionException if the executor service rejects an action
+	 * @since JForconsol 1.1.0
+	 */
+	public static <T, X extends Throwable> Optional<X> forEachWithThrown(Stream<? extends T> source, Function<? super T, X> action, ExecutorService executor, int maxConcurrency) {
+		final List<X> THROWN = execute(source, action, executor, maxConcurrency, false);
+		
+		return THROWN.isEmpty() ? Optional.empty() : Optional.of(THROWN.get(0));
+	}
+	
+	/**
+	 * Performs an action for each element of the provided stream on virtual threads and gets the first exception returned from any action.
+	 * <p>
+	 * This method behaves like {@link #forEachWithThrown(Stream, Function, ExecutorService, int)} with an executor service that starts a new virtual thread for each action.
+	 * 
+	 * @param <T> the type of the stream elements
+	 * @param <X> the type of the exception to be caused within the action
+	 * @param source the stream to be iterated over
+	 * @param action the action to perform on the elements, which must be thread-safe
+	 * @param maxConcurrency the maximum number of actions that run at the same time
+	 * @return a non-empty optional, if any action returned an exception
+	 * @throws IllegalArgumentException if the maximum concurrency is less than one
+	 * @throws NullPointerException if the provided stream or action is <code>null</code>
+	 * @since JForconsol 1.1.0
+	 */
+	public static <T, X extends Throwable> Optional<X> forEachWithThrown(Stream<? extends T> source, Function<? super T, X> action, int maxConcurrency) {
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			return forEachWithThrown(source, action, executor, maxConcurrency);
+		}
+	}
+	
+	/**
+	 * Performs an action for each element of the provided stream on the provided executor service and gets every exception returned from the actions.
+	 * <p>
+	 * Unlike <code>forEachWithThrown</code>, an action returning an instance of <code>X</code> does not stop the iterative process: the action is performed for every element, with at most <code>maxConcurrency</code> actions running or waiting to run at the same time, and this method returns once all of them have completed.
+	 * 
+	 * @param <T> the type of the stream elements
+	 * @param <X> the type of the exception to be caused within the action
+	 * @param source the stream to be iterated over
+	 * @param action the action to perform on the elements, which must be thread-safe
+	 * @param executor the executor service that runs the actions
+	 * @param maxConcurrency the maximum number of actions that run or wait to run at the same time
+	 * @return a list of the exceptions returned from the actions, in the order they were returned
+	 * @throws IllegalArgumentException if the maximum concurrency is less than one
+	 * @throws NullPointerException if the provided stream, action or executor service is <code>null</code>
+	 * @throws RejectedExecutionException if the executor service rejects an action
+	 * @see #forEachWithThrown(Stream, Function, ExecutorService, int)
+	 * @since JForconsol 1.1.0
+	 */
+	public static <T, X extends Throwable> List<X> forEachCollectingThrown(Stream<? extends T> source, Function<? super T, X> action, ExecutorService executor, int maxConcurrency) {
+		return execute(source, action, executor, maxConcurrency, true);
+	}
+	
+	/**
+	 * Performs an action for each element of the provided stream on virtual threads and gets every exception returned from the actions.
+	 * 
+	 * @param <T> the type of the stream elements
+	 * @param <X> the type of the exception to be caused within the action
+	 * @param source the stream to be iterated over
+	 * @param action the action to perform on the elements, which must be thread-safe
+	 * @param maxConcurrency the maximum number of actions that run at the same time
+	 * @return a list of the exceptions returned from the actions, in the order they were returned
+	 * @throws IllegalArgumentException if the maximum concurrency is less than one
+	 * @throws NullPointerException if the provided stream or action is <code>null</code>
+	 * @see #forEachCollectingThrown(Stream, Function, ExecutorService, int)
+	 * @since JForconsol 1.1.0
+	 */
+	public static <T, X extends Throwable> List<X> forEachCollectingThrown(Stream<? extends T> source, Function<? super T, X> action, int maxConcurrency) {
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			return forEachCollectingThrown(source, action, executor, maxConcurrency);
+		}
+	}
+	
+	/**
+	 * Groups the elements of the provided stream into consecutive chunks of the provided size. The last chunk has fewer elements if the number of elements is not a multiple of the size.
+	 * <p>
+	 * Closing the returned stream closes the provided one.
+	 * 
+	 * @param <T> the type of the stream elements
+	 * @param source the stream whose elements are grouped
+	 * @param size the maximum number of elements of each chunk
+	 * @return a stream of unmodifiable lists of elements
+	 * @throws IllegalArgumentException if the size is less than one
+	 * @throws NullPointerException if the provided stream is <code>null</code>
+	 * @since JForconsol 1.1.0
+	 */
+	public static <T> Stream<List<T>> chunked(Stream<T> source, int size) {
+		if (size < 1) {
+			throw new IllegalArgumentException("The size of the chunks must be positive");
+		}
+		
+		return StreamSupport.stream(new ChunkingSpliterator<>(source.spliterator(), size), source.isParallel())
+			   .onClose(source::close);
+	}
+	
+	/**
+	 * Gets windows of the provided size that slide over the elements of the provided stream, each window starting <code>step</code> elements after the previous one. Only complete windows are returned, so a stream with fewer elements than the size results in an empty stream.
+	 * <p>
+	 * For example, windows of size 3 and step 1 over the elements 1, 2, 3, 4 are [1, 2, 3] and [2, 3, 4]. If the step is greater than the size, the elements between windows are skipped.
+	 * <p>
+	 * Closing the returned stream closes the provided one.
+	 * 
+	 * @param <T> the type of the stream elements
+	 * @param source the stream to slide over
+	 * @param size the number of elements of each window
+	 * @param step the distance between the first elements of consecutive windows
+	 * @return a stream of unmodifiable lists of elements
+	 * @throws IllegalArgumentException if the size or the step is less than one
+	 * @throws NullPointerException if the provided stream is <code>null</code>
+	 * @since JForconsol 1.1.0
+	 */
+	public static <T> Stream<List<T>> windowed(Stream<T> source, int size, int step) {
+		if (size < 1) {
+			throw new IllegalArgumentException("The size of the windows must be positive");
+		}
+		if (step < 1) {
+			throw new IllegalArgumentException("The step between windows must be positive");
+		}
+		
+		return StreamSupport.stream(new WindowingSpliterator<>(source.spliterator(), size, step), source.isParallel())
+			   .onClose(source::close);
+	}
+	
+	/**
+	 * Combines the elements of the provided streams pairwise by using the provided function. The resulting stream ends when either of the provided streams ends.
+	 * <p>
+	 * Closing the returned stream closes both provided streams.
+	 * 
+	 * @param <A> the type of the elements of the first stream
+	 * @param <B> the type of the elements of the second stream
+	 * @param <R> the type of the combined elements
+	 * @param first the stream of the first elements of the pairs
+	 * @param second the stream of the second elements of the pairs
+	 * @param zipper the function that combines each pair of elements
+	 * @return a stream of combined elements
+	 * @throws NullPointerException if any provided stream or the function is <code>null</code>
+	 * @since JForconsol 1.1.0
+	 */
+	public static <A, B, R> Stream<R> zip(Stream<A> first, Stream<B> second, BiFunction<? super A, ? super B, ? extends R> zipper) {
+		Objects.requireNonNull(zipper);
+		
+		return StreamSupport.stream(new ZippingSpliterator<A, B, R>(first.spliterator(), second.spliterator(), zipper), first.isParallel() || second.isParallel())
+			   .onClose(first::close)
+			   .onClose(second::close);
+	}
+	
+	private static <T, X extends Throwable> List<X> execute(Stream<? extends T> source, Function<? super T, X> action, ExecutorService executor, int maxConcurrency, boolean isCollecting) {
+		Objects.requireNonNull(action);
+		Objects.requireNonNull(executor);
+		
+		if (maxConcurrency < 1) {
+			throw new IllegalArgumentException("At least one action must be able to run");
+		}
+		
+		final Iterator<? extends T> ELEMENTS = source.iterator();
+		final Execution<X> EXECUTION = new Execution<>(maxConcurrency, isCollecting);
+		boolean isCompleted = false;
+		boolean isInterrupted = false;
+		
+		try {
+			while (true) {
+				// The permit is taken first, so no element is taken from the stream before an action can run it
+				EXECUTION.permits.acquire();
+				
+				ActionTask<X> task = null;
+				
+				try {
+					if (!EXECUTION.isStopped.get() && ELEMENTS.hasNext()) {
+						final T ELEMENT = ELEMENTS.next();
+						
+						task = new ActionTask<>(EXECUTION, () -> action.apply(ELEMENT));
+					}
+				}
+				finally {
+					if (task == null) {
+						EXECUTION.permits.release();
+					}
+				}
+				
+				if (task == null) {
+					break;
+				}
+				
+				EXECUTION.outstanding.add(task);
+				
+				try {
+					executor.execute(task);
+				}
+				catch (RejectedExecutionException e) {
+					task.cancel(false);
+					throw e;
+				}
+			}
+			
+			// Every action releases its permit once it completes or is cancelled
+			EXECUTION.permits.acquire(maxConcurrency);
+			isCompleted = true;
+		}
+		catch (InterruptedException e) {
+			EXECUTION.stop();
+			isInterrupted = true;
+		}
+		catch (RuntimeException | Error e) {
+			// Thrown by the stream or by the executor service
+			EXECUTION.stop();
+			throw e;
+		}
+		finally {
+			if (!isCompleted) {
+				// The actions that started are cancelled, but this method still returns only once they complete
+				EXECUTION.permits.acquireUninterruptibly(maxConcurrency);
+			}
+		}
+		
+		if (isInterrupted) {
+			Thread.currentThread().interrupt();
+		}
+		
+		if (EXECUTION.failure instanceof RuntimeException exception) {
+			throw exception;
+		}
+		if (EXECUTION.failure instanceof Error error) {
+			throw error;
+		}
+		
+		return new ArrayList<>(EXECUTION.thrown);
+	}
+	
+	private static final class Execution<X> {
+		private final Semaphore permits;
+		private final boolean isCollecting;
+		private final Set<ActionTask<X>> outstanding = ConcurrentHashMap.newKeySet();
+		private final Queue<X> thrown = new ConcurrentLinkedQueue<>();
+		private final AtomicBoolean isStopped = new AtomicBoolean();
+		private volatile Throwable failure;
+		
+		Execution(int maxConcurrency, boolean isCollecting) {
+			permits = new Semaphore(maxConcurrency);
+			this.isCollecting = isCollecting;
+		}
+		
+		void report(X exception) {
+			if (isCollecting) {
+				thrown.add(exception);
+			}
+			else if (isStopped.compareAndSet(false, true)) {
+				thrown.add(exception);
+				cancelOutstanding();
+			}
+		}
+		
+		void fail(Throwable exception) {
+			if (failure == null) {
+				failure = exception;
+			}
+			
+			stop();
+		}
+		
+		void stop() {
+			isStopped.set(true);
+			cancelOutstanding();
+		}
+		
+		private void cancelOutstanding() {
+			for (ActionTask<X> task : outstanding) {
+				task.cancel(true);
+			}
+		}
+	}
+	
+	private static final class ActionTask<X> extends FutureTask<Void> {
+		private final Execution<X> execution;
+		// Claimed either by the thread that runs this task or by its cancellation before it runs, so its permit is released exactly once
+		private final AtomicBoolean isClaimed = new AtomicBoolean();
+		
+		ActionTask(Execution<X> execution, Supplier<X> action) {
+			super(() -> {
+				if (execution.isCollecting || !execution.isStopped.get()) {
+					try {
+						final X EXCEPTION = action.get();
+						
+						if (EXCEPTION != null) {
+							execution.report(EXCEPTION);
+						}
+					}
+					catch (RuntimeException | Error e) {
+						execution.fail(e);
+					}
+				}
+			}, null);
+			this.execution = execution;
+		}
+		
+		@Override
+		public void run() {
+			if (isClaimed.compareAndSet(false, true)) {
+				try {
+					super.run();
+				}
+				finally {
+					execution.outstanding.remove(this);
+					execution.permits.release();
+				}
+			}
+		}
+		
+		@Override
+		protected void done() {
+			if (isClaimed.compareAndSet(false, true)) {
+				execution.outstanding.remove(this);
+				execution.permits.release();
+			}
+		}
+	}
+	
+	/**
+	 * A spliterator of lists of consecutive source elements. A source whose size is known after every split is split at a list boundary, with the elements of the last list of the prefix carried over from the suffix; any other source is split by buffering a batch of lists, which grows by a number of elements as <code>AbstractSpliterator</code> does.
+	 * 
+	 * @param <T> the type of the source elements
+	 */
+	private abstract static class ListSpliterator<T> implements Spliterator<List<T>> {
+		private static final int BATCH_UNIT = 1 << 10;
+		private static final int MAX_BATCH = 1 << 25;
+		Spliterator<T> source;
+		final int size;
+		private int batch;
+		
+		ListSpliterator(Spliterator<T> source, int size) {
+			this.source = source;
+			this.size = size;
+		}
+		
+		@Override
+		public Spliterator<List<T>> trySplit() {
+			return source.hasCharacteristics(Spliterator.SUBSIZED) ? splitSource() : splitBatch();
+		}
+		
+		@Override
+		public int characteristics() {
+			return source.characteristics() & (Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED) | Spliterator.NONNULL;
+		}
+		
+		/**
+		 * Splits the source, whose prefix has an exact size, so that neither part begins in the middle of a list.
+		 * 
+		 * @return a spliterator of the lists that begin in the prefix, or <code>null</code> if the source cannot be split
+		 */
+		abstract Spliterator<List<T>> splitSource();
+		
+		/**
+		 * Takes up to the provided number of elements from the source.
+		 * 
+		 * @param count the number of elements to take, which is less than a list
+		 * @return the elements taken
+		 */
+		List<T> take(int count) {
+			final List<T> ELEMENTS = new ArrayList<>(count);
+			final Consumer<T> ADD = ELEMENTS::add;
+			
+			while (ELEMENTS.size() < count && source.tryAdvance(ADD)) {
+				
+			}
+			
+			return ELEMENTS;
+		}
+		
+		private Spliterator<List<T>> splitBatch() {
+			final int ELEMENTS = Math.min(batch + BATCH_UNIT, MAX_BATCH);
+			final int COUNT = Math.max(1, ELEMENTS / size);
+			final List<List<T>> LISTS = new ArrayList<>(Math.min(COUNT, BATCH_UNIT));
+			final Consumer<List<T>> ADD = LISTS::add;
+			
+			while (LISTS.size() < COUNT && tryAdvance(ADD)) {
+				
+			}
+			
+			if (LISTS.isEmpty()) {
+				return null;
+			}
+			
+			batch = ELEMENTS;
+			return Spliterators.spliterator(LISTS, characteristics());
+		}
+		
+		static <T> Spliterator<T> concat(List<T> first, Spliterator<T> middle, List<T> last) {
+			Stream<T> elements = StreamSupport.stream(middle, false);
+			
+			if (!first.isEmpty()) {
+				elements = Stream.concat(first.stream(), elements);
+			}
+			if (!last.isEmpty()) {
+				elements = Stream.concat(elements, last.stream());
+			}
+			
+			return elements.spliterator();
+		}
+	}
+	
+	private static final class ChunkingSpliterator<T> extends ListSpliterator<T> {
+		ChunkingSpliterator(Spliterator<T> source, int size) {
+			super(source, size);
+		}
+		
+		@Override
+		public boolean tryAdvance(Consumer<? super List<T>> action) {
+			final List<T> CHUNK = new ArrayList<>((int)Math.min(size, source.estimateSize()));
+			final Consumer<T> ADD = CHUNK::add;
+			
+			while (CHUNK.size() < size && source.tryAdvance(ADD)) {
+				
+			}
+			
+			if (CHUNK.isEmpty()) {
+				return false;
+			}
+			
+			action.accept(Collections.unmodifiableList(CHUNK));
+			return true;
+		}
+		
+		@Override
+		public long estimateSize() {
+			final long ELEMENTS = source.estimateSize();
+			
+			return ELEMENTS == Long.MAX_VALUE ? Long.MAX_VALUE : (ELEMENTS + size - 1) / size;
+		}
+		
+		@Override
+		Spliterator<List<T>> splitSource() {
+			final Spliterator<T> PREFIX = source.trySplit();
+			
+			if (PREFIX == null || PREFIX.estimateSize() == 0) {
+				return null;
+			}
+			
+			// The last chunk of the prefix is completed with the first elements of this spliterator, which then starts at a chunk
+			final int CARRIED = (int)((size - PREFIX.estimateSize() % size) % size);
+			final Spliterator<T> PREFIX_SOURCE = concat(List.of(), PREFIX, take(CARRIED));
+			
+			if (estimateSize() == 0) {
+				// Nothing is left after the prefix, so this spliterator takes its place instead of being split again and again
+				source = PREFIX_SOURCE;
+				return null;
+			}
+			
+			return new ChunkingSpliterator<>(PREFIX_SOURCE, size);
+		}
+	}
+	
+	private static final class WindowingSpliterator<T> extends ListSpliterator<T> {
+		private static final Consumer<Object> SKIP = element -> {};
+		private final int step;
+		// The elements that begin the next window, which were taken from the source by the previous window or by a split
+		private List<T> pending = List.of();
+		// The elements of the source between the previous window and the next one
+		private long skipped;
+		
+		WindowingSpliterator(Spliterator<T> source, int size, int step) {
+			super(source, size);
+			this.step = step;
+		}
+		
+		@Override
+		public boolean tryAdvance(Consumer<? super List<T>> action) {
+			if (!skip()) {
+				return false;
+			}
+			
+			final List<T> WINDOW = new ArrayList<>(size);
+			final Consumer<T> ADD = WINDOW::add;
+			
+			WINDOW.addAll(pending);
+			
+			while (WINDOW.size() < size && source.tryAdvance(ADD)) {
+				
+			}
+			
+			if (WINDOW.size() < size) {
+				return false;
+			}
+			
+			if (step < size) {
+				pending = WINDOW.subList(step, size);
+			}
+			else {
+				pending = List.of();
+				skipped = step - size;
+			}
+			
+			action.accept(Collections.unmodifiableList(WINDOW));
+			return true;
+		}
+		
+		@Override
+		public long estimateSize() {
+			final long ELEMENTS = source.estimateSize();
+			
+			if (ELEMENTS == Long.MAX_VALUE) {
+				return Long.MAX_VALUE;
+			}
+			
+			final long REMAINING = pending.size() + Math.max(0, ELEMENTS - skipped);
+			
+			return REMAINING < size ? 0 : (REMAINING - size) / step + 1;
+		}
+		
+		@Override
+		Spliterator<List<T>> splitSource() {
+			if (!skip()) {
+				return null;
+			}
+			
+			final Spliterator<T> PREFIX = source.trySplit();
+			
+			if (PREFIX == null) {
+				return null;
+			}
+			
+			final long PREFIX_SIZE = pending.size() + PREFIX.estimateSize();
+			
+			if (PREFIX_SIZE == 0) {
+				return null;
+			}
+			
+			// The windows that begin in the prefix take their last elements from this spliterator, which then starts at the next window
+			final long NEXT_START = (PREFIX_SIZE + step - 1) / step * step;
+			final int GAP = (int)(NEXT_START - PREFIX_SIZE);
+			final List<T> CARRIED = take((int)Math.max(0, NEXT_START - step + size - PREFIX_SIZE));
+			final Spliterator<T> PREFIX_SOURCE = concat(pending, PREFIX, CARRIED);
+			
+			pending = CARRIED.size() > GAP ? CARRIED.subList(GAP, CARRIED.size()) : List.of();
+			skipped = Math.max(0, GAP - CARRIED.size());
+			
+			if (estimateSize() == 0) {
+				// No window is left after the prefix, so this spliterator takes its place instead of being split again and again
+				source = PREFIX_SOURCE;
+				pending = List.of();
+				skipped = 0;
+				return null;
+			}
+			
+			return new WindowingSpliterator<>(PREFIX_SOURCE, size, step);
+		}
+		
+		private boolean skip() {
+			for (; skipped > 0; skipped--) {
+				if (!source.tryAdvance(SKIP)) {
+					return false;
+				}
+			}
+			
+			return true;
+		}
+	}
+	
+	private static final class ZippingSpliterator<A, B, R> extends Spliterators.AbstractSpliterator<R> {
+		private final Spliterator<A> first;
+		private final Spliterator<B> second;
+		private final BiFunction<? super A, ? super B, ? extends R> zipper;
+		private final Consumer<A> takeFirst = element -> firstElement = element;
+		private final Consumer<B> takeSecond = element -> secondElement = element;
+		private A firstElement;
+		private B secondElement;
+		
+		ZippingSpliterator(Spliterator<A> first, Spliterator<B> second, BiFunction<? super A, ? super B, ? extends R> zipper) {
+			super(Math.min(first.estimateSize(), second.estimateSize()), first.characteristics() & second.characteristics() & (Spliterator.ORDERED | Spliterator.SIZED));
+			this.first = first;
+			this.second = second;
+			this.zipper = zipper;
+		}
+		
+		@Override
+		public boolean tryAdvance(Consumer<? super R> action) {
+			if (!first.tryAdvance(takeFirst) || !second.tryAdvance(takeSecond)) {
+				return false;
+			}
+			
+			final R ZIPPED = zipper.apply(firstElement, secondElement);
+			
+			firstElement = null;
+			secondElement = null;
+			action.accept(ZIPPED);
+			return true;
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.github.alexisc183.jforconsol;
+
+/**
+ * A source of cells that a {@link PrintableTable} can print without converting them to objects nor strings.
+ * <p>
+ * Instead of returning its cells, a table model tells the length of each one and appends it to the buffer of the printable table, so implementations backed by primitive arrays neither box values nor allocate strings.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @see ColumnarTableModel
+ * @since JForconsol 1.1.0
+ */
+public interface TableModel {
+	/**
+	 * Returns the number of rows of this table model.
+	 * 
+	 * @return the number of rows
+	 */
+	int getRowCount();
+	
+	/**
+	 * Returns the number of columns of this table model.
+	 * 
+	 * @return the number of columns
+	 */
+	int getColumnCount();
+	
+	/**
+	 * Returns the number of characters that the <code>appendCell</code> method appends for the provided cell.
+	 * 
+	 * @param row the index of the row of the cell
+	 * @param column the index of the column of the cell
+	 * @return the length of the cell
+	 */
+	int getCellLength(int row, int column);
+	
+	/**
+	 * Appends the provided cell to the provided string builder.
+	 * 
+	 * @param builder the string builder to append the cell to
+	 * @param row the index of the row of the cell
+	 * @param column the index of the column of the cell
+	 */
+	void appendCell(StringBuilder builder, int row, int column);
+	
+	/**
+	 * Checks whether the cells of the provided column are aligned to the right when the printable table has no element alignment.
+	 * 
+	 * @param column the index of the column
+	 * @return <code>true</code> if the cells of the column are aligned to the right by default; <code>false</code> otherwise.
+	 */
+	boolean isRightAligned(int column);
+}
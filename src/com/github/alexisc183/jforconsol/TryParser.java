@@ -0,0 +1,36 @@
+package com.github.alexisc183.jforconsol;
+
+import java.util.Optional;
+
+/**
+ * A parser that reports invalid string representations with an empty result instead of an exception.
+ * <p>
+ * The <code>request</code> methods of this library parse inputs with the <code>tryParse</code> method of these parsers, so invalid inputs are rejected as cheaply as valid ones are accepted, without creating exceptions and their stack traces.
+ * 
+ * @author AlexisC183
+ * @version 1, 2026-10-18
+ * @param <T> the return type of this parsing operation
+ * @since JForconsol 1.1.0
+ */
+@FunctionalInterface
+public interface TryParser<T> extends Parser<T> {
+	/**
+	 * Parses the given string to convert it to <code>T</code>, if the string has the appropriate format.
+	 * 
+	 * @param aString the string representation of an instance
+	 * @return an <code>Optional</code> with a <code>T</code> from the converted string, or an empty <code>Optional</code> if the string does not have the appropriate format
+	 */
+	Optional<T> tryParse(String aString);
+	
+	/**
+	 * Parses the given string to convert it to <code>T</code>.
+	 * 
+	 * @param aString the string representation of an instance
+	 * @return a <code>T</code> from the converted string
+	 * @throws FormatException if the string does not have the appropriate format
+	 */
+	@Override
+	default T parse(String aString) {
+		return tryParse(aString).orElseThrow(() -> new FormatException("Passed string does not have the appropriate format"));
+	}
+}